@@ -2,8 +2,11 @@ package de.dafuqs.spectrum;
 
 import de.dafuqs.spectrum.api.color.*;
 import de.dafuqs.spectrum.api.energy.color.*;
+import de.dafuqs.spectrum.blocks.*;
 import de.dafuqs.spectrum.blocks.pastel_network.*;
+import de.dafuqs.spectrum.blocks.redstone.*;
 import de.dafuqs.spectrum.compat.*;
+import de.dafuqs.spectrum.compat.claims.*;
 import de.dafuqs.spectrum.compat.reverb.*;
 import de.dafuqs.spectrum.config.*;
 import de.dafuqs.spectrum.data_loaders.*;
@@ -11,6 +14,8 @@ import de.dafuqs.spectrum.entity.*;
 import de.dafuqs.spectrum.events.*;
 import de.dafuqs.spectrum.explosion.*;
 import de.dafuqs.spectrum.inventories.*;
+import de.dafuqs.spectrum.items.magic_items.*;
+import de.dafuqs.spectrum.items.map.*;
 import de.dafuqs.spectrum.loot.*;
 import de.dafuqs.spectrum.networking.*;
 import de.dafuqs.spectrum.particle.*;
@@ -27,7 +32,6 @@ import net.fabricmc.fabric.api.transfer.v1.item.*;
 import net.fabricmc.loader.api.*;
 import net.minecraft.item.*;
 import net.minecraft.recipe.*;
-import net.minecraft.registry.tag.*;
 import net.minecraft.resource.*;
 import net.minecraft.server.*;
 import net.minecraft.text.*;
@@ -43,7 +47,6 @@ public class SpectrumCommon implements ModInitializer {
 	public static final String MOD_ID = "spectrum";
 	
 	public static final Logger LOGGER = LoggerFactory.getLogger("Spectrum");
-	public static final Map<Identifier, TagKey<Item>> CACHED_ITEM_TAG_MAP = new HashMap<>();
 	public static SpectrumConfig CONFIG;
 
 	public static void logInfo(String message) {
@@ -192,8 +195,20 @@ public class SpectrumCommon implements ModInitializer {
 			minecraftServer = server;
 		});
 		
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			StructureLocatorAsync.cancelAll();
+		});
+		
 		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
 			Pastel.clearServerInstance();
+			BlockChangedEventSections.clear();
+			BatchedExplosionProcessor.clear();
+			GenericClaimModsCompat.clearCache();
+			StructureLocatorAsync.clearCache();
+			StructureCompassLocator.clearCache();
+			DetectorEntityScan.clear();
+			MultiblockStateCache.clear();
+			RedstoneTransceiverChannels.clear();
 			minecraftServer = null;
 		});
 		
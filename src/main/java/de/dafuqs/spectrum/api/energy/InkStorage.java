@@ -9,6 +9,7 @@ import net.minecraft.util.math.*;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.function.*;
 
 import static de.dafuqs.spectrum.helpers.Support.*;
 
@@ -29,7 +30,7 @@ public interface InkStorage extends Clearable {
 	 */
 	static long transferInk(@NotNull InkStorage source, @NotNull InkStorage destination) {
 		long transferred = 0;
-		for (InkColor inkColor : source.getEnergy().keySet()) {
+		for (InkColor inkColor : source.getStoredColors()) {
 			transferred += transferInk(source, destination, inkColor);
 		}
 		return transferred;
@@ -121,6 +122,12 @@ public interface InkStorage extends Clearable {
 	@Deprecated
 	Map<InkColor, Long> getEnergy();
 	
+	// the colors that ink is stored as directly, without having to mix it
+	// transferInk(source, destination) moves ink of these colors
+	default Iterable<InkColor> getStoredColors() {
+		return getEnergy().keySet();
+	}
+	
 	// sets the amount of stored energy of that type
 	// only use for syncing server <=> clientside
 	@Deprecated
@@ -163,14 +170,20 @@ public interface InkStorage extends Clearable {
 	
 	static @NotNull Map<InkColor, Long> readEnergy(NbtCompound compound) {
 		Map<InkColor, Long> energy = new HashMap<>();
+		readEnergy(compound, energy::put);
+		return energy;
+	}
+	
+	// reads stored ink without building a map. Colors that are not registered (anymore) get skipped
+	static void readEnergy(NbtCompound compound, ObjLongConsumer<InkColor> consumer) {
 		if (compound != null) {
 			for (String key : compound.getKeys()) {
 				InkColor inkColor = SpectrumRegistries.INK_COLORS.get(new Identifier(key));
-				long amount = compound.getLong(key);
-				energy.put(inkColor, amount);
+				if (inkColor != null) {
+					consumer.accept(inkColor, compound.getLong(key));
+				}
 			}
 		}
-		return energy;
 	}
 	
 	static @NotNull NbtCompound writeEnergy(Map<InkColor, Long> storedEnergy) {
@@ -181,6 +194,18 @@ public interface InkStorage extends Clearable {
 		return energy;
 	}
 	
+	// writes ink stored in an array indexed by InkColor.getIndex()
+	static @NotNull NbtCompound writeEnergy(long[] storedEnergy, Iterable<InkColor> colors, boolean includeEmpty) {
+		NbtCompound energy = new NbtCompound();
+		for (InkColor color : colors) {
+			long amount = storedEnergy[color.getIndex()];
+			if (includeEmpty || amount != 0) {
+				energy.putLong(color.getID().toString(), amount);
+			}
+		}
+		return energy;
+	}
+	
 	static void addInkStoreBulletTooltip(List<Text> tooltip, InkColor color, long amount) {
 		MutableText inkName = color.getInkName();
 		tooltip.add(Text.translatable("spectrum.tooltip.ink_powered.bullet_amount", Text.literal(getShortenedNumberString(amount)).formatted(Formatting.WHITE), inkName).setStyle(inkName.getStyle()));
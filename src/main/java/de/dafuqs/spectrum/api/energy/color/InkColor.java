@@ -5,6 +5,7 @@ import de.dafuqs.spectrum.registries.*;
 import net.minecraft.registry.tag.*;
 import net.minecraft.text.*;
 import net.minecraft.util.*;
+import org.jetbrains.annotations.*;
 import org.joml.*;
 
 import java.util.*;
@@ -13,6 +14,9 @@ public class InkColor {
 	
 	protected static final Map<DyeColor, InkColor> DYE_TO_COLOR = new HashMap<>();
 	
+	// there is exactly one ink color per dye color, so the id of the dye color doubles as a dense index into arrays
+	public static final int INDEX_COUNT = DyeColor.values().length;
+	
 	protected final DyeColor dyeColor;
 	protected final int colorInt;
 	protected final Vector3f colorVec;
@@ -41,6 +45,10 @@ public class InkColor {
 		return DYE_TO_COLOR.get(dyeColor);
 	}
 	
+	public static @Nullable InkColor ofIndex(int index) {
+		return DYE_TO_COLOR.get(DyeColor.byId(index));
+	}
+	
 	public static Optional<InkColor> ofId(Identifier id) {
 		return SpectrumRegistries.INK_COLORS.getOrEmpty(id);
 	}
@@ -53,6 +61,13 @@ public class InkColor {
 		return this.dyeColor;
 	}
 	
+	/**
+	 * @return an index between 0 and {@link #INDEX_COUNT}, unique to this color
+	 */
+	public int getIndex() {
+		return this.dyeColor.getId();
+	}
+	
 	@Override
 	public String toString() {
 		return this.getID().toString();
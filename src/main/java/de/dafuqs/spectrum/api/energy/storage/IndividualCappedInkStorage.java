@@ -16,7 +16,8 @@ import static de.dafuqs.spectrum.helpers.Support.*;
 public class IndividualCappedInkStorage implements InkStorage {
 	
 	protected final long maxEnergyPerColor;
-	protected final Map<InkColor, Long> storedEnergy = new Object2LongArrayMap<>();
+	protected final long[] storedEnergy = new long[InkColor.INDEX_COUNT]; // indexed by InkColor.getIndex()
+	protected final Set<InkColor> supportedColors = new ObjectLinkedOpenHashSet<>();
 	protected long currentTotal; // This is a cache for quick lookup. Can be recalculated anytime using the values in storedEnergy.
 	
 	// support all ink colors
@@ -30,82 +31,100 @@ public class IndividualCappedInkStorage implements InkStorage {
 		this.currentTotal = 0;
 		
 		for (InkColor color : supportedColors) {
-			this.storedEnergy.put(color, 0L);
+			this.supportedColors.add(color);
 		}
 	}
 	
 	public IndividualCappedInkStorage(long maxEnergyPerColor, Map<InkColor, Long> colors) {
-		this.maxEnergyPerColor = maxEnergyPerColor;
-		this.storedEnergy.putAll(colors);
+		this(maxEnergyPerColor, colors.keySet());
 		
 		for (Map.Entry<InkColor, Long> color : colors.entrySet()) {
-			this.storedEnergy.put(color.getKey(), color.getValue());
+			this.storedEnergy[color.getKey().getIndex()] = color.getValue();
 			this.currentTotal += color.getValue();
 		}
 	}
 	
 	@Override
 	public boolean accepts(InkColor color) {
-		return this.storedEnergy.containsKey(color);
+		return this.supportedColors.contains(color);
 	}
 	
 	@Override
 	public long addEnergy(InkColor color, long amount) {
-		long resultingAmount = this.storedEnergy.get(color) + amount;
+		// unsupported colors would neither get saved nor shown, so they are not taken at all
+		if (!this.supportedColors.contains(color)) {
+			return amount;
+		}
+		int index = color.getIndex();
+		long resultingAmount = this.storedEnergy[index] + amount;
 		if (resultingAmount > this.maxEnergyPerColor) {
 			long overflow = resultingAmount - this.maxEnergyPerColor;
-			this.currentTotal = this.maxEnergyPerColor;
-			this.storedEnergy.put(color, this.maxEnergyPerColor);
+			this.currentTotal += amount - overflow;
+			this.storedEnergy[index] = this.maxEnergyPerColor;
 			return overflow;
 		} else {
 			this.currentTotal += amount;
-			this.storedEnergy.put(color, resultingAmount);
+			this.storedEnergy[index] = resultingAmount;
 			return 0;
 		}
 	}
 	
 	@Override
 	public boolean requestEnergy(InkColor color, long amount) {
-		long storedAmount = this.storedEnergy.getOrDefault(color, 0L);
+		int index = color.getIndex();
+		long storedAmount = this.storedEnergy[index];
 		if (storedAmount < amount) {
 			return false;
 		} else {
 			this.currentTotal -= amount;
-			this.storedEnergy.put(color, storedAmount - amount);
+			this.storedEnergy[index] = storedAmount - amount;
 			return true;
 		}
 	}
 	
 	@Override
 	public long drainEnergy(InkColor color, long amount) {
-		long storedAmount = this.storedEnergy.getOrDefault(color, 0L);
+		int index = color.getIndex();
+		long storedAmount = this.storedEnergy[index];
 		long drainedAmount = Math.min(storedAmount, amount);
-		this.storedEnergy.put(color, storedAmount - drainedAmount);
+		this.storedEnergy[index] = storedAmount - drainedAmount;
 		this.currentTotal -= drainedAmount;
 		return drainedAmount;
 	}
 	
 	@Override
 	public long getEnergy(InkColor color) {
-		return this.storedEnergy.getOrDefault(color, 0L);
+		return this.storedEnergy[color.getIndex()];
 	}
 	
 	@Override
 	@Deprecated
 	public Map<InkColor, Long> getEnergy() {
-		return this.storedEnergy;
+		Map<InkColor, Long> energy = new Object2LongArrayMap<>(this.supportedColors.size());
+		for (InkColor color : this.supportedColors) {
+			energy.put(color, this.storedEnergy[color.getIndex()]);
+		}
+		return energy;
+	}
+	
+	@Override
+	public Iterable<InkColor> getStoredColors() {
+		return this.supportedColors;
 	}
 	
 	@Override
 	@Deprecated
 	public void setEnergy(Map<InkColor, Long> colors, long total) {
-		this.storedEnergy.putAll(colors);
+		for (Map.Entry<InkColor, Long> color : colors.entrySet()) {
+			this.supportedColors.add(color.getKey());
+			this.storedEnergy[color.getKey().getIndex()] = color.getValue();
+		}
 		this.currentTotal = total;
 	}
 	
 	@Override
 	public long getMaxTotal() {
-		return this.maxEnergyPerColor * this.storedEnergy.size();
+		return this.maxEnergyPerColor * this.supportedColors.size();
 	}
 	
 	@Override
@@ -130,14 +149,20 @@ public class IndividualCappedInkStorage implements InkStorage {
 	
 	public static IndividualCappedInkStorage fromNbt(@NotNull NbtCompound compound) {
 		long maxEnergyPerColor = compound.getLong("MaxEnergyPerColor");
-		Map<InkColor, Long> colors = InkStorage.readEnergy(compound.getCompound("Energy"));
-		return new IndividualCappedInkStorage(maxEnergyPerColor, colors);
+		IndividualCappedInkStorage storage = new IndividualCappedInkStorage(maxEnergyPerColor, List.of());
+		// every supported color gets written, even when empty
+		InkStorage.readEnergy(compound.getCompound("Energy"), (color, amount) -> {
+			storage.supportedColors.add(color);
+			storage.storedEnergy[color.getIndex()] = amount;
+			storage.currentTotal += amount;
+		});
+		return storage;
 	}
 	
 	public NbtCompound toNbt() {
 		NbtCompound compound = new NbtCompound();
 		compound.putLong("MaxEnergyPerColor", this.maxEnergyPerColor);
-		compound.put("Energy", InkStorage.writeEnergy(this.storedEnergy));
+		compound.put("Energy", InkStorage.writeEnergy(this.storedEnergy, this.supportedColors, true));
 		return compound;
 	}
 	
@@ -148,7 +173,7 @@ public class IndividualCappedInkStorage implements InkStorage {
 		
 		// we are iterating them this way to preserve the ordering
 		for (InkColor color : SpectrumRegistries.INK_COLORS) {
-			long amount = this.storedEnergy.getOrDefault(color, 0L);
+			long amount = this.storedEnergy[color.getIndex()];
 			if (amount > 0) {
 				InkStorage.addInkStoreBulletTooltip(tooltip, color, amount);
 			}
@@ -157,25 +182,29 @@ public class IndividualCappedInkStorage implements InkStorage {
 	
 	@Override
 	public long getRoom(InkColor color) {
-		return maxEnergyPerColor - this.storedEnergy.get(color);
+		if (!this.supportedColors.contains(color)) {
+			return 0;
+		}
+		return maxEnergyPerColor - this.storedEnergy[color.getIndex()];
 	}
 	
 	@Override
 	public void fillCompletely() {
 		this.currentTotal = 0;
-		for (InkColor color : this.storedEnergy.keySet()) {
-			storedEnergy.put(color, this.maxEnergyPerColor);
+		for (InkColor color : this.supportedColors) {
+			this.storedEnergy[color.getIndex()] = this.maxEnergyPerColor;
 			this.currentTotal += this.maxEnergyPerColor;
 		}
 	}
 	
 	@Override
 	public void clear() {
-		this.storedEnergy.clear();
+		Arrays.fill(this.storedEnergy, 0);
+		this.currentTotal = 0;
 	}
 	
 	public Set<InkColor> getSupportedColors() {
-		return this.storedEnergy.keySet();
+		return this.supportedColors;
 	}
 	
 }
\ No newline at end of file
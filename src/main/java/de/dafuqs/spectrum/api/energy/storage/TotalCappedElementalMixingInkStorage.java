@@ -18,6 +18,10 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 		super(maxEnergyTotal, storedEnergy);
 	}
 	
+	protected TotalCappedElementalMixingInkStorage(long maxEnergyTotal, @Nullable NbtCompound storedEnergy) {
+		super(maxEnergyTotal, storedEnergy);
+	}
+	
 	@Override
 	public boolean accepts(InkColor color) {
 		return color.isIn(InkColorTags.ELEMENTAL_COLORS);
@@ -27,14 +31,7 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 	public boolean requestEnergy(InkColor color, long amount) {
 		if (color.isIn(InkColorTags.ELEMENTAL_COLORS)) {
 			// can be output directly
-			long storedAmount = this.storedEnergy.get(color);
-			if (storedAmount < amount) {
-				return false;
-			} else {
-				this.currentTotal -= amount;
-				this.storedEnergy.put(color, storedAmount - amount);
-				return true;
-			}
+			return super.requestEnergy(color, amount);
 		}
 		
 		// mix!
@@ -45,7 +42,7 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 		
 		// check if we have enough
 		for (Map.Entry<InkColor, Float> entry : requiredElementals.get().entrySet()) {
-			long storedAmount = this.storedEnergy.get(entry.getKey());
+			long storedAmount = this.storedEnergy[entry.getKey().getIndex()];
 			long requiredAmount = (int) Math.ceil(entry.getValue() * amount);
 			if (storedAmount < requiredAmount) {
 				return false;
@@ -54,10 +51,10 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 		
 		// yes, we got stored enough. Drain
 		for (Map.Entry<InkColor, Float> entry : requiredElementals.get().entrySet()) {
-			long storedAmount = this.storedEnergy.get(entry.getKey());
+			long storedAmount = this.storedEnergy[entry.getKey().getIndex()];
 			long requiredAmount = (int) Math.ceil(entry.getValue() * amount);
 			this.currentTotal -= requiredAmount;
-			this.storedEnergy.put(entry.getKey(), storedAmount - requiredAmount);
+			this.storedEnergy[entry.getKey().getIndex()] = storedAmount - requiredAmount;
 		}
 		return true;
 	}
@@ -66,12 +63,7 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 	public long drainEnergy(InkColor color, long amount) {
 		if (color.isIn(InkColorTags.ELEMENTAL_COLORS)) {
 			// can be output directly
-			long storedAmount = this.storedEnergy.get(color);
-			long drainedAmount = Math.min(storedAmount, amount);
-			this.storedEnergy.put(color, storedAmount - drainedAmount);
-			
-			this.currentTotal -= drainedAmount;
-			return drainedAmount;
+			return super.drainEnergy(color, amount);
 		}
 		
 		// mix!
@@ -83,7 +75,7 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 		// calculate the max amount that can be drained over all colors
 		float percentageAbleToDrain = 1.0F;
 		for (Map.Entry<InkColor, Float> entry : requiredElementals.get().entrySet()) {
-			long storedAmount = this.storedEnergy.get(entry.getKey());
+			long storedAmount = this.storedEnergy[entry.getKey().getIndex()];
 			long requiredAmount = (int) Math.ceil(entry.getValue() * amount);
 			if (storedAmount < requiredAmount) {
 				percentageAbleToDrain = Math.min(percentageAbleToDrain, storedAmount / (float) requiredAmount);
@@ -92,9 +84,9 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 		
 		// drain
 		for (Map.Entry<InkColor, Float> entry : requiredElementals.get().entrySet()) {
-			long storedAmount = this.storedEnergy.get(entry.getKey());
+			long storedAmount = this.storedEnergy[entry.getKey().getIndex()];
 			long drainedAmount = (int) Math.ceil(entry.getValue() * amount * percentageAbleToDrain);
-			this.storedEnergy.put(entry.getKey(), storedAmount - drainedAmount);
+			this.storedEnergy[entry.getKey().getIndex()] = storedAmount - drainedAmount;
 		}
 		
 		long drainedAmount = (int) Math.floor(percentageAbleToDrain * amount);
@@ -106,7 +98,7 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 	public long getEnergy(InkColor color) {
 		if (color.isIn(InkColorTags.ELEMENTAL_COLORS)) {
 			// can be output directly
-			return this.storedEnergy.get(color);
+			return this.storedEnergy[color.getIndex()];
 		}
 		
 		// mix!
@@ -117,7 +109,7 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 		}
 		
 		for (Map.Entry<InkColor, Float> entry : requiredElementals.get().entrySet()) {
-			long mixedAmount = (long) Math.floor(entry.getValue() * this.storedEnergy.get(entry.getKey()));
+			long mixedAmount = (long) Math.floor(entry.getValue() * this.storedEnergy[entry.getKey().getIndex()]);
 			maxAmount = Math.min(maxAmount, mixedAmount);
 		}
 		return maxAmount;
@@ -126,32 +118,31 @@ public class TotalCappedElementalMixingInkStorage extends TotalCappedInkStorage
 	public NbtCompound toNbt() {
 		NbtCompound compound = new NbtCompound();
 		compound.putLong("MaxEnergyTotal", this.maxEnergyTotal);
-		compound.put("Energy", InkStorage.writeEnergy(this.storedEnergy));
+		compound.put("Energy", InkStorage.writeEnergy(this.storedEnergy, InkColors.all(), false));
 		return compound;
 	}
 	
 	public static TotalCappedElementalMixingInkStorage fromNbt(@NotNull NbtCompound compound) {
 		long maxEnergyTotal = compound.getLong("MaxEnergyTotal");
-		Map<InkColor, Long> energy = InkStorage.readEnergy(compound.getCompound("Energy"));
-		return new TotalCappedElementalMixingInkStorage(maxEnergyTotal, energy);
+		return new TotalCappedElementalMixingInkStorage(maxEnergyTotal, compound.getCompound("Energy"));
 	}
 	
 	@Override
 	public void fillCompletely() {
-		this.storedEnergy.clear();
+		Arrays.fill(this.storedEnergy, 0);
 		//try{
 		List<InkColor> elementals = InkColors.elementals();
 		long energyPerColor = this.maxEnergyTotal / elementals.size();
 		for (InkColor color : elementals) {
-			this.storedEnergy.put(color, energyPerColor);
+			this.storedEnergy[color.getIndex()] = energyPerColor;
 		}
 		this.currentTotal = energyPerColor * elementals.size(); // in case rounding is weird
 		//} catch (Exception e) {e.printStackTrace();}
 	}
 	
 	@Override
-	public void clear() {
-		this.storedEnergy.clear();
+	public Iterable<InkColor> getStoredColors() {
+		return InkColors.elementals();
 	}
 	
 	@Override
@@ -16,19 +16,29 @@ import static de.dafuqs.spectrum.helpers.Support.*;
 public class TotalCappedInkStorage implements InkStorage {
 	
 	protected final long maxEnergyTotal;
-	protected final Map<InkColor, Long> storedEnergy = new Object2LongArrayMap<>();
+	protected final long[] storedEnergy = new long[InkColor.INDEX_COUNT]; // indexed by InkColor.getIndex()
 	protected long currentTotal; // This is a cache for quick lookup. Can be recalculated anytime using the values in storedEnergy.
 	
 	public TotalCappedInkStorage(long maxEnergyTotal, Map<InkColor, Long> energy) {
 		this.maxEnergyTotal = maxEnergyTotal;
 
 		this.currentTotal = 0;
-		this.storedEnergy.putAll(energy);
 		for (Map.Entry<InkColor, Long> color : energy.entrySet()) {
+			this.storedEnergy[color.getKey().getIndex()] = color.getValue();
 			this.currentTotal += color.getValue();
 		}
 	}
 	
+	protected TotalCappedInkStorage(long maxEnergyTotal, @Nullable NbtCompound energy) {
+		this.maxEnergyTotal = maxEnergyTotal;
+		
+		this.currentTotal = 0;
+		InkStorage.readEnergy(energy, (color, amount) -> {
+			this.storedEnergy[color.getIndex()] = amount;
+			this.currentTotal += amount;
+		});
+	}
+	
 	@Override
 	public boolean accepts(InkColor color) {
 		return true;
@@ -39,46 +49,64 @@ public class TotalCappedInkStorage implements InkStorage {
 		long overflow = Math.max(0, amount + this.currentTotal - this.maxEnergyTotal);
 		long amountToAdd = amount - overflow;
 		this.currentTotal += amountToAdd;
-		this.storedEnergy.put(color, this.storedEnergy.getOrDefault(color, 0L) + amountToAdd);
+		this.storedEnergy[color.getIndex()] += amountToAdd;
 		return overflow;
 	}
 	
 	@Override
 	public boolean requestEnergy(InkColor color, long amount) {
-		long storedAmount = this.storedEnergy.getOrDefault(color, 0L);
+		int index = color.getIndex();
+		long storedAmount = this.storedEnergy[index];
 		if (storedAmount < amount) {
 			return false;
 		} else {
 			this.currentTotal -= amount;
-			this.storedEnergy.put(color, storedAmount - amount);
+			this.storedEnergy[index] = storedAmount - amount;
 			return true;
 		}
 	}
 	
 	@Override
 	public long drainEnergy(InkColor color, long amount) {
-		long storedAmount = this.storedEnergy.getOrDefault(color, 0L);
+		int index = color.getIndex();
+		long storedAmount = this.storedEnergy[index];
 		long drainedAmount = Math.min(storedAmount, amount);
-		this.storedEnergy.put(color, storedAmount - drainedAmount);
+		this.storedEnergy[index] = storedAmount - drainedAmount;
 		this.currentTotal -= drainedAmount;
 		return drainedAmount;
 	}
 	
 	@Override
 	public long getEnergy(InkColor color) {
-		return this.storedEnergy.getOrDefault(color, 0L);
+		return this.storedEnergy[color.getIndex()];
 	}
 	
 	@Override
 	@Deprecated
 	public Map<InkColor, Long> getEnergy() {
-		return this.storedEnergy;
+		Map<InkColor, Long> energy = new Object2LongArrayMap<>();
+		for (InkColor color : InkColors.all()) {
+			long amount = this.storedEnergy[color.getIndex()];
+			if (amount != 0) {
+				energy.put(color, amount);
+			}
+		}
+		return energy;
+	}
+	
+	@Override
+	public Iterable<InkColor> getStoredColors() {
+		return InkColors.all();
 	}
 	
 	@Override
 	@Deprecated
 	public void setEnergy(Map<InkColor, Long> colors, long total) {
-		this.storedEnergy.putAll(colors);
+		// colors that are not part of the map are empty
+		Arrays.fill(this.storedEnergy, 0);
+		for (Map.Entry<InkColor, Long> color : colors.entrySet()) {
+			this.storedEnergy[color.getKey().getIndex()] = color.getValue();
+		}
 		this.currentTotal = total;
 	}
 	
@@ -110,14 +138,13 @@ public class TotalCappedInkStorage implements InkStorage {
 	public NbtCompound toNbt() {
 		NbtCompound compound = new NbtCompound();
 		compound.putLong("MaxEnergyTotal", this.maxEnergyTotal);
-		compound.put("Energy", InkStorage.writeEnergy(this.storedEnergy));
+		compound.put("Energy", InkStorage.writeEnergy(this.storedEnergy, InkColors.all(), false));
 		return compound;
 	}
 	
 	public static TotalCappedInkStorage fromNbt(@NotNull NbtCompound compound) {
 		long maxEnergyTotal = compound.getLong("MaxEnergyTotal");
-		Map<InkColor, Long> colors = InkStorage.readEnergy(compound.getCompound("Energy"));
-		return new TotalCappedInkStorage(maxEnergyTotal, colors);
+		return new TotalCappedInkStorage(maxEnergyTotal, compound.getCompound("Energy"));
 	}
 	
 	@Override
@@ -127,19 +154,19 @@ public class TotalCappedInkStorage implements InkStorage {
 	
 	@Override
 	public void fillCompletely() {
-		this.storedEnergy.clear();
+		Arrays.fill(this.storedEnergy, 0);
 		
 		int inkColorCount = SpectrumRegistries.INK_COLORS.size();
 		long energyPerColor = this.maxEnergyTotal / inkColorCount;
 		for (InkColor color : InkColors.all()) {
-			this.storedEnergy.put(color, energyPerColor);
+			this.storedEnergy[color.getIndex()] = energyPerColor;
 		}
 		this.currentTotal = energyPerColor * inkColorCount; // in case rounding is weird
 	}
 	
 	@Override
 	public void clear() {
-		this.storedEnergy.clear();
+		Arrays.fill(this.storedEnergy, 0);
 		this.currentTotal = 0;
 	}
 	
@@ -153,7 +180,7 @@ public class TotalCappedInkStorage implements InkStorage {
 	protected void addInkContentTooltip(List<Text> tooltip) {
 		// we are iterating them this way to preserve the ordering in which they were registered
 		for (InkColor color : SpectrumRegistries.INK_COLORS) {
-			long amount = this.storedEnergy.getOrDefault(color, 0L);
+			long amount = this.storedEnergy[color.getIndex()];
 			if (amount > 0) {
 				InkStorage.addInkStoreBulletTooltip(tooltip, color, amount);
 			}
@@ -0,0 +1,17 @@
+package de.dafuqs.spectrum.api.item;
+
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.enchantment.*;
+
+/**
+ * Implemented by every ItemStack. Remembers the enchantments parsed from the stack's nbt,
+ * until they change. Use {@link de.dafuqs.spectrum.helpers.SpectrumEnchantmentHelper#getLevel} instead of calling this directly.
+ */
+public interface EnchantmentLevelCache {
+	
+	/**
+	 * @return the enchantments of the stack, like {@link EnchantmentHelper#get}, with levels clamped like {@link EnchantmentHelper#getLevel}. Not to be modified
+	 */
+	Object2IntMap<Enchantment> spectrum$getEnchantmentLevels();
+	
+}
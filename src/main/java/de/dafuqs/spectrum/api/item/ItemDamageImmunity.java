@@ -1,5 +1,6 @@
 package de.dafuqs.spectrum.api.item;
 
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.enchantment.*;
 import net.minecraft.entity.damage.*;
@@ -29,7 +30,7 @@ public class ItemDamageImmunity {
 		}
 		
 		// does itemStack have Damage Proof enchantment?
-		if (EnchantmentHelper.getLevel(SpectrumEnchantments.STEADFAST, itemStack) > 0) {
+		if (SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.STEADFAST, itemStack) > 0) {
 			return true;
 			// is item immune to this specific kind of damage?
 		}
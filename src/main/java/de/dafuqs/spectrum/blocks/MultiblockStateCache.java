@@ -0,0 +1,155 @@
+package de.dafuqs.spectrum.blocks;
+
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.block.entity.*;
+import net.minecraft.registry.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * The state of the multiblock structure around a crafting block, like whether it is complete or which tier of it got built.
+ * The structure only gets validated again after a block within range of it changed, so crafting blocks,
+ * their GUIs and recipe checks can ask for it as often as they like.
+ * <p>
+ * Only server worlds report block changes. Client worlds validate on every call.
+ * Block entities owning a cache implement {@link Holder}, so it stops watching once they get unloaded or removed.
+ */
+public class MultiblockStateCache<T> {
+
+	private static final Map<RegistryKey<World>, Long2ObjectMap<List<MultiblockStateCache<?>>>> WATCHED_SECTIONS = new HashMap<>();
+	// multiblocks are data driven. Bumped on reloads, so every cache validates again
+	private static int generation = 0;
+
+	private final BlockPos center;
+	private final int range;
+	private final BlockBox bounds;
+	private final Function<World, T> validator;
+
+	private @Nullable World watchedWorld;
+	private @Nullable T state;
+	private boolean valid = false;
+	private int validatedGeneration;
+
+	/**
+	 * @param range     how far the structure reaches from center, in any direction
+	 * @param validator validates the structure. Only called when the cached state might be outdated
+	 */
+	public MultiblockStateCache(BlockPos center, int range, Function<World, T> validator) {
+		this.center = center.toImmutable();
+		this.range = range;
+		this.bounds = new BlockBox(center.getX() - range, center.getY() - range, center.getZ() - range, center.getX() + range, center.getY() + range, center.getZ() + range);
+		this.validator = validator;
+	}
+
+	public T get(World world) {
+		if (world.isClient) {
+			return this.validator.apply(world);
+		}
+
+		if (this.watchedWorld != world) {
+			stopWatching();
+			startWatching(world);
+		}
+		if (!this.valid || this.validatedGeneration != generation) {
+			this.state = this.validator.apply(world);
+			this.valid = true;
+			this.validatedGeneration = generation;
+		}
+		return this.state;
+	}
+
+	public void invalidate() {
+		this.valid = false;
+	}
+
+	/**
+	 * Called when the owning block entity gets unloaded or removed
+	 */
+	public void stopWatching() {
+		if (this.watchedWorld == null) {
+			return;
+		}
+
+		Long2ObjectMap<List<MultiblockStateCache<?>>> sections = WATCHED_SECTIONS.get(this.watchedWorld.getRegistryKey());
+		if (sections != null) {
+			forEachSection(section -> {
+				List<MultiblockStateCache<?>> caches = sections.get(section);
+				if (caches != null && caches.remove(this) && caches.isEmpty()) {
+					sections.remove(section);
+				}
+			});
+		}
+		this.watchedWorld = null;
+		this.valid = false;
+	}
+
+	private void startWatching(World world) {
+		Long2ObjectMap<List<MultiblockStateCache<?>>> sections = WATCHED_SECTIONS.computeIfAbsent(world.getRegistryKey(), key -> new Long2ObjectOpenHashMap<>());
+		forEachSection(section -> sections.computeIfAbsent(section, s -> new ArrayList<>(1)).add(this));
+		this.watchedWorld = world;
+		this.valid = false;
+	}
+
+	private void forEachSection(LongConsumer consumer) {
+		int minX = ChunkSectionPos.getSectionCoord(this.center.getX() - this.range);
+		int minY = ChunkSectionPos.getSectionCoord(this.center.getY() - this.range);
+		int minZ = ChunkSectionPos.getSectionCoord(this.center.getZ() - this.range);
+		int maxX = ChunkSectionPos.getSectionCoord(this.center.getX() + this.range);
+		int maxY = ChunkSectionPos.getSectionCoord(this.center.getY() + this.range);
+		int maxZ = ChunkSectionPos.getSectionCoord(this.center.getZ() + this.range);
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					consumer.accept(ChunkSectionPos.asLong(x, y, z));
+				}
+			}
+		}
+	}
+
+	public static void onBlockChanged(World world, BlockPos pos) {
+		if (WATCHED_SECTIONS.isEmpty()) {
+			return;
+		}
+
+		Long2ObjectMap<List<MultiblockStateCache<?>>> sections = WATCHED_SECTIONS.get(world.getRegistryKey());
+		if (sections == null) {
+			return;
+		}
+		List<MultiblockStateCache<?>> caches = sections.get(ChunkSectionPos.toLong(pos));
+		if (caches != null) {
+			for (MultiblockStateCache<?> cache : caches) {
+				if (cache.bounds.contains(pos)) {
+					cache.valid = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Makes every cache validate again, like after multiblocks got reloaded
+	 */
+	public static void invalidateAll() {
+		generation++;
+	}
+
+	public static void onBlockEntityUnloaded(BlockEntity blockEntity) {
+		if (blockEntity instanceof Holder holder) {
+			holder.getMultiblockStateCache().stopWatching();
+		}
+	}
+
+	public static void clear() {
+		WATCHED_SECTIONS.clear();
+	}
+
+	public interface Holder {
+
+		MultiblockStateCache<?> getMultiblockStateCache();
+
+	}
+
+}
@@ -2,6 +2,7 @@ package de.dafuqs.spectrum.blocks.boom;
 
 import de.dafuqs.spectrum.api.block.*;
 import de.dafuqs.spectrum.blocks.*;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.block.*;
 import net.minecraft.enchantment.*;
@@ -127,7 +128,7 @@ public class IncandescentAmalgamBlock extends PlacedItemBlock implements Waterlo
 	public void onBreak(World world, BlockPos pos, BlockState state, PlayerEntity player) {
 		if (!state.get(WATERLOGGED)
 				&& !player.isCreative()
-				&& EnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, player.getStackInHand(player.getActiveHand())) == 0) {
+				&& SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, player.getStackInHand(player.getActiveHand())) == 0) {
 
 			explode(world, pos);
 		}
@@ -155,7 +155,7 @@ public class BottomlessBundleItem extends BundleItem implements InventoryInserti
 		NbtCompound voidBundleCompound = voidBundleStack.getOrCreateNbt();
 		NbtCompound storedItemCompound = new NbtCompound();
 
-		boolean hasVoiding = EnchantmentHelper.getLevel(SpectrumEnchantments.VOIDING, voidBundleStack) > 0;
+		boolean hasVoiding = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.VOIDING, voidBundleStack) > 0;
 		int maxStoredAmount = getMaxStoredAmount(voidBundleStack);
 		int newAmount = Math.min(maxStoredAmount, storedItemCompound.getInt("Count") + amount);
 		int overflowAmount = hasVoiding ? 0 : Math.max(0, amount - maxStoredAmount);
@@ -366,7 +366,7 @@ public class BottomlessBundleItem extends BundleItem implements InventoryInserti
 						firstStack.getName().getString()).formatted(Formatting.GRAY));
 			}
 		}
-		if (EnchantmentHelper.getLevel(SpectrumEnchantments.VOIDING, stack) > 0) {
+		if (SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.VOIDING, stack) > 0) {
 			tooltip.add(Text.translatable("item.spectrum.bottomless_bundle.tooltip.voiding"));
 		}
 	}
@@ -408,7 +408,7 @@ public class BottomlessBundleItem extends BundleItem implements InventoryInserti
 			} else if (itemStack.getItem().canBeNested()) {
 				ItemStack firstStack = getFirstBundledStack(stack);
 				if (firstStack.isEmpty() || ItemStack.canCombine(firstStack, itemStack)) {
-					boolean hasVoiding = EnchantmentHelper.getLevel(SpectrumEnchantments.VOIDING, stack) > 0;
+					boolean hasVoiding = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.VOIDING, stack) > 0;
 					int amountAbleToStore = hasVoiding ? itemStack.getCount() : Math.min(itemStack.getCount(), (getMaxStoredAmount(stack) - getStoredAmount(stack)));
 					if (amountAbleToStore > 0) {
 						addToBundle(stack, slot.takeStackRange(itemStack.getCount(), amountAbleToStore, player));
@@ -55,7 +55,6 @@ public class BlackHoleChestBlockEntity extends SpectrumChestBlockEntity implemen
 	}
 
 	public static void tick(@NotNull World world, BlockPos pos, BlockState state, BlackHoleChestBlockEntity chest) {
-		chest.updateFullState();
 		chest.age++;
 
 		if (chest.isOpen) {
@@ -112,12 +111,58 @@ public class BlackHoleChestBlockEntity extends SpectrumChestBlockEntity implemen
 		}
 	}
 
+	// everything changing the inventory ends up here, including items and experience being absorbed
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		updateFullState();
+	}
+	
+	@Override
+	public ItemStack removeStack(int slot) {
+		ItemStack removedStack = super.removeStack(slot);
+		updateFullState();
+		return removedStack;
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		updateFullState();
+	}
+	
+	/**
+	 * Recalculates the full and experience state and sends it to clients, if it changed.
+	 * Players that start tracking the chest later get the state with the initial chunk data.
+	 */
 	public void updateFullState() {
-		if (!world.isClient()) {
-			isFull = isFull();
+		if (world != null && !world.isClient() && refreshState()) {
 			SpectrumS2CPacketSender.sendBlackHoleChestUpdate(this);
 		}
 	}
+	
+	/**
+	 * @return true if the state changed
+	 */
+	private boolean refreshState() {
+		boolean wasFull = isFull;
+		boolean hadXPStorage = hasXPStorage;
+		long previousXP = storedXP;
+		long previousMaxXP = maxStoredXP;
+		
+		isFull = isFull();
+		hasXPStorage = canStoreExperience();
+		var experienceStack = inventory.get(EXPERIENCE_STORAGE_PROVIDER_ITEM_SLOT);
+		if (experienceStack.getItem() instanceof ExperienceStorageItem experienceStorage) {
+			storedXP = ExperienceStorageItem.getStoredExperience(experienceStack);
+			maxStoredXP = experienceStorage.getMaxStoredExperience(experienceStack);
+		} else {
+			storedXP = 0;
+			maxStoredXP = 0;
+		}
+		
+		return isFull != wasFull || hasXPStorage != hadXPStorage || storedXP != previousXP || maxStoredXP != previousMaxXP;
+	}
 
 	public void setXPData(long xp, long max) {
 		this.storedXP = xp;
@@ -220,6 +265,27 @@ public class BlackHoleChestBlockEntity extends SpectrumChestBlockEntity implemen
 		super.readNbt(tag);
 		FilterConfigurable.readFilterNbt(tag, filterItems);
 		age = tag.getLong("age");
+		
+		if (tag.contains("IsFull")) {
+			// initial chunk data on the client
+			isFull = tag.getBoolean("IsFull");
+			hasXPStorage = tag.getBoolean("HasXPStorage");
+			storedXP = tag.getLong("StoredXP");
+			maxStoredXP = tag.getLong("MaxStoredXP");
+		} else {
+			refreshState();
+		}
+	}
+	
+	@Override
+	public NbtCompound toInitialChunkDataNbt() {
+		updateFullState();
+		NbtCompound nbtCompound = new NbtCompound();
+		nbtCompound.putBoolean("IsFull", isFull);
+		nbtCompound.putBoolean("HasXPStorage", hasXPStorage);
+		nbtCompound.putLong("StoredXP", storedXP);
+		nbtCompound.putLong("MaxStoredXP", maxStoredXP);
+		return nbtCompound;
 	}
 	
 	@Override
@@ -257,12 +323,17 @@ public class BlackHoleChestBlockEntity extends SpectrumChestBlockEntity implemen
 				sendPlayExperienceOrbEntityAbsorbedParticle((ServerWorld) world, experienceOrbEntity);
 				world.playSound(null, experienceOrbEntity.getBlockPos(), SoundEvents.ENTITY_EXPERIENCE_ORB_PICKUP, SoundCategory.BLOCKS, 0.9F + world.random.nextFloat() * 0.2F, 0.9F + world.random.nextFloat() * 0.2F);
 				experienceOrbEntity.remove(Entity.RemovalReason.DISCARDED);
+				markDirty();
 			}
 		} else if (entry instanceof ItemEntityEventQueue.EventEntry itemEntry) {
 			ItemEntity itemEntity = itemEntry.itemEntity;
 			if (itemEntity != null && itemEntity.isAlive() && acceptsItemStack(itemEntity.getStack())) {
 				int previousAmount = itemEntity.getStack().getCount();
 				ItemStack remainingStack = InventoryHelper.smartAddToInventory(itemEntity.getStack(), this, Direction.UP);
+				if (remainingStack.getCount() != previousAmount) {
+					// stacks might have been incremented in place
+					markDirty();
+				}
 				
 				if (remainingStack.isEmpty()) {
 					sendPlayItemEntityAbsorbedParticle((ServerWorld) world, itemEntity);
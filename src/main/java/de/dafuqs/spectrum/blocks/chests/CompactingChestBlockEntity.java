@@ -6,6 +6,11 @@ import de.dafuqs.spectrum.inventories.CompactingChestScreenHandler;
 import de.dafuqs.spectrum.networking.SpectrumS2CPacketSender;
 import de.dafuqs.spectrum.registries.SpectrumBlockEntities;
 import de.dafuqs.spectrum.registries.SpectrumSoundEvents;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
 import net.minecraft.block.BlockState;
@@ -16,7 +21,6 @@ import net.minecraft.nbt.NbtElement;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.recipe.CraftingRecipe;
-import net.minecraft.recipe.RecipeType;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -24,21 +28,31 @@ import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.Text;
-import net.minecraft.util.Pair;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
 public class CompactingChestBlockEntity extends SpectrumChestBlockEntity implements ExtendedScreenHandlerFactory {
 	
-	private static final Map<AutoCompactingInventory.AutoCraftingMode, Map<ItemVariant, Optional<CraftingRecipe>>> cache = new EnumMap<>(AutoCompactingInventory.AutoCraftingMode.class);
-	private final AutoCompactingInventory autoCompactingInventory = new AutoCompactingInventory();
+	private static final int INVENTORY_SIZE = 27;
+	
 	private AutoCompactingInventory.AutoCraftingMode autoCraftingMode;
-	private CraftingRecipe lastCraftingRecipe; // cache
-	private ItemVariant lastItemVariant; // cache
 	private boolean hasToCraft, isOpen;
+	
+	// what each slot contained when it was last looked at, to turn inventory changes into per-variant deltas
+	private final ItemVariant[] slotVariants = new ItemVariant[INVENTORY_SIZE];
+	private final int[] slotCounts = new int[INVENTORY_SIZE];
+	private final Object2IntOpenHashMap<ItemVariant> variantCounts = new Object2IntOpenHashMap<>();
+	private final Object2IntOpenHashMap<ItemVariant> pendingDeltas = new Object2IntOpenHashMap<>();
+	// variants with a compacting recipe that are present often enough to be compacted
+	private final ObjectLinkedOpenHashSet<ItemVariant> craftableVariants = new ObjectLinkedOpenHashSet<>();
+	// craftable variants whose output did not fit into the inventory. Retried once something gets removed
+	private final Set<ItemVariant> blockedVariants = new ObjectOpenHashSet<>();
+	// the compaction table generation the tracking above was built for. Tracking is rebuilt on the next tick if outdated
+	private int trackedTableGeneration = -1;
 	private State state = State.CLOSED;
 	float pistonPos, pistonTarget, lastPistonTarget, driverPos, driverTarget, lastDriverTarget, capPos, capTarget, lastCapTarget;
 	long interpTicks, interpLength = 1, activeTicks, craftingTicks;
@@ -47,9 +61,8 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 	public CompactingChestBlockEntity(BlockPos blockPos, BlockState blockState) {
 		super(SpectrumBlockEntities.COMPACTING_CHEST, blockPos, blockState);
 		this.autoCraftingMode = AutoCompactingInventory.AutoCraftingMode.ThreeXThree;
-		this.lastItemVariant = null;
-		this.lastCraftingRecipe = null;
 		this.hasToCraft = false;
+		Arrays.fill(this.slotVariants, ItemVariant.blank());
 	}
 	
 	public static void tick(World world, BlockPos pos, BlockState state, CompactingChestBlockEntity chest) {
@@ -89,6 +102,9 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 			}
 		}
 		else {
+			if (chest.trackedTableGeneration != CompactionTable.getGeneration()) {
+				chest.rebuildTracking();
+			}
 			if (chest.hasToCraft) {
 				boolean couldCraft = chest.tryCraftOnce();
 				if (!couldCraft) {
@@ -191,10 +207,6 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 		return false;
 	}
 	
-	public static void clearCache() {
-		cache.clear();
-	}
-	
 	@Override
 	protected Text getContainerName() {
 		return Text.translatable("block.spectrum.compacting_chest");
@@ -207,6 +219,8 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 			int autoCraftingModeInt = tag.getInt("AutoCraftingMode");
 			this.autoCraftingMode = AutoCompactingInventory.AutoCraftingMode.values()[autoCraftingModeInt];
 		}
+		// the inventory got replaced. Count it from scratch on the next tick
+		this.trackedTableGeneration = -1;
 	}
 	
 	@Override
@@ -217,43 +231,165 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 	
 	@Override
 	public int size() {
-		return 27;
+		return INVENTORY_SIZE;
+	}
+	
+	// setStack() and removeStack(slot, amount) end up here, as does everything changing stacks in place
+	@Override
+	public void markDirty() {
+		super.markDirty();
+		syncSlots();
 	}
 	
 	@Override
-	public void setStack(int slot, ItemStack stack) {
-		super.setStack(slot, stack);
-		shouldCraft(true);
+	public ItemStack removeStack(int slot) {
+		ItemStack removedStack = super.removeStack(slot);
+		syncSlots();
+		return removedStack;
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		syncSlots();
 	}
 	
 	public void inventoryChanged() {
-		shouldCraft(true);
+		syncSlots();
 	}
 	
-	private boolean tryCraftOnce() {
-		Optional<CraftingRecipe> optionalCraftingRecipe = Optional.empty();
+	private boolean isTracking() {
+		return this.trackedTableGeneration == CompactionTable.getGeneration();
+	}
+	
+	private void rebuildTracking() {
+		Arrays.fill(this.slotVariants, ItemVariant.blank());
+		Arrays.fill(this.slotCounts, 0);
+		this.variantCounts.clear();
+		this.craftableVariants.clear();
+		this.blockedVariants.clear();
+		this.trackedTableGeneration = CompactionTable.getGeneration();
+		syncSlots();
+		shouldCraft(!this.craftableVariants.isEmpty());
+	}
+	
+	/**
+	 * Compares all slots to what they contained the last time and applies the differences to the per-variant counts.
+	 * That is cheap enough to do on every change and saves searching the inventory for things to compact.
+	 */
+	private void syncSlots() {
+		if (!isTracking()) {
+			// not tracking yet, or on the client
+			return;
+		}
+		
 		DefaultedList<ItemStack> inventory = this.getInvStackList();
+		int emptySlotDelta = 0;
+		for (int slot = 0; slot < INVENTORY_SIZE; slot++) {
+			ItemStack stack = inventory.get(slot);
+			int count = stack.isEmpty() ? 0 : stack.getCount();
+			ItemVariant previousVariant = this.slotVariants[slot];
+			int previousCount = this.slotCounts[slot];
+			boolean sameVariant = previousVariant.matches(stack);
+			if (sameVariant && previousCount == count) {
+				continue;
+			}
+			
+			ItemVariant variant = count == 0 ? ItemVariant.blank() : sameVariant ? previousVariant : ItemVariant.of(stack);
+			this.slotVariants[slot] = variant;
+			this.slotCounts[slot] = count;
+			if (!previousVariant.isBlank()) {
+				this.pendingDeltas.addTo(previousVariant, -previousCount);
+			}
+			if (!variant.isBlank()) {
+				this.pendingDeltas.addTo(variant, count);
+			}
+			if (previousVariant.isBlank() != variant.isBlank()) {
+				emptySlotDelta += variant.isBlank() ? 1 : -1;
+			}
+		}
+		
+		if (this.pendingDeltas.isEmpty()) {
+			return;
+		}
 		
-		// try last recipe
-		if (lastCraftingRecipe != null) {
-			int requiredItemCount = this.autoCraftingMode.getItemCount();
-			if (InventoryHelper.isItemCountInInventory(inventory, lastItemVariant, requiredItemCount)) {
-				optionalCraftingRecipe = Optional.ofNullable(lastCraftingRecipe);
-			} else {
-				lastCraftingRecipe = null;
-				lastItemVariant = null;
+		// items moving between slots cancel each other out. Only net changes are of interest
+		boolean freedSpace = emptySlotDelta > 0;
+		for (Object2IntMap.Entry<ItemVariant> entry : Object2IntMaps.fastIterable(this.pendingDeltas)) {
+			int delta = entry.getIntValue();
+			if (delta != 0) {
+				onVariantCountChanged(entry.getKey(), delta);
+				freedSpace |= delta < 0;
 			}
 		}
-		// search for other recipes
-		if (optionalCraftingRecipe.isEmpty()) {
-			optionalCraftingRecipe = searchRecipeToCraft();
+		this.pendingDeltas.clear();
+		
+		if (freedSpace && !this.blockedVariants.isEmpty()) {
+			this.craftableVariants.addAll(this.blockedVariants);
+			this.blockedVariants.clear();
+		}
+		if (!this.craftableVariants.isEmpty()) {
+			shouldCraft(true);
+		}
+	}
+	
+	private void onVariantCountChanged(ItemVariant variant, int delta) {
+		int count = this.variantCounts.addTo(variant, delta) + delta;
+		if (count <= 0) {
+			this.variantCounts.removeInt(variant);
+		}
+		
+		if (count < this.autoCraftingMode.getItemCount()) {
+			this.craftableVariants.remove(variant);
+			this.blockedVariants.remove(variant);
+		} else if (!this.blockedVariants.contains(variant) && !this.craftableVariants.contains(variant) && getCompactingRecipe(variant) != null) {
+			this.craftableVariants.add(variant);
+		}
+	}
+	
+	private void updateCraftableVariants() {
+		this.craftableVariants.clear();
+		this.blockedVariants.clear();
+		if (!isTracking()) {
+			return;
+		}
+		
+		int requiredItemCount = this.autoCraftingMode.getItemCount();
+		for (Object2IntMap.Entry<ItemVariant> entry : Object2IntMaps.fastIterable(this.variantCounts)) {
+			if (entry.getIntValue() >= requiredItemCount && getCompactingRecipe(entry.getKey()) != null) {
+				this.craftableVariants.add(entry.getKey());
+			}
 		}
+		shouldCraft(!this.craftableVariants.isEmpty());
+	}
+	
+	private @Nullable CraftingRecipe getCompactingRecipe(ItemVariant variant) {
+		return CompactionTable.get(this.world).getRecipe(this.autoCraftingMode, variant, this.world);
+	}
+	
+	private boolean tryCraftOnce() {
+		DefaultedList<ItemStack> inventory = this.getInvStackList();
+		int requiredItemCount = this.autoCraftingMode.getItemCount();
 		
-		if (optionalCraftingRecipe.isPresent() && this.lastItemVariant != null) {
-			if (tryCraftInInventory(inventory, optionalCraftingRecipe.get(), this.lastItemVariant)) {
-				this.lastCraftingRecipe = optionalCraftingRecipe.get();
+		Iterator<ItemVariant> iterator = this.craftableVariants.iterator();
+		while (iterator.hasNext()) {
+			ItemVariant variant = iterator.next();
+			CraftingRecipe recipe = getCompactingRecipe(variant);
+			if (recipe == null || this.variantCounts.getInt(variant) < requiredItemCount) {
+				iterator.remove();
+				continue;
+			}
+			
+			if (tryCraftInInventory(inventory, recipe, variant)) {
+				markDirty();
 				return true;
 			}
+			
+			iterator.remove();
+			this.blockedVariants.add(variant);
+			// the input was taken out and put back in, possibly into other slots
+			syncSlots();
+			return !this.craftableVariants.isEmpty();
 		}
 		return false;
 	}
@@ -278,44 +414,6 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 		return hasToCraft;
 	}
 
-	public Optional<CraftingRecipe> searchRecipeToCraft() {
-		for (ItemStack itemStack : inventory) {
-			if (itemStack.isEmpty()) {
-				continue;
-			}
-			
-			int requiredItemCount = this.autoCraftingMode.getItemCount();
-			Pair<Integer, List<ItemStack>> stackPair = InventoryHelper.getStackCountInInventory(itemStack, inventory, requiredItemCount);
-			if (stackPair.getLeft() >= requiredItemCount) {
-				Map<ItemVariant, Optional<CraftingRecipe>> currentCache = cache.computeIfAbsent(autoCraftingMode, mode -> new HashMap<>());
-				ItemVariant itemKey = ItemVariant.of(itemStack);
-				
-				Optional<CraftingRecipe> recipe = currentCache.get(itemKey);
-				if (recipe != null) {
-					if (recipe.isEmpty()) {
-						continue;
-					}
-					this.lastItemVariant = itemKey;
-					return recipe;
-				}
-				
-				autoCompactingInventory.setCompacting(autoCraftingMode, itemKey.toStack());
-				Optional<CraftingRecipe> optionalCraftingRecipe = world.getRecipeManager().getFirstMatch(RecipeType.CRAFTING, autoCompactingInventory, world);
-				if (optionalCraftingRecipe.isEmpty() || optionalCraftingRecipe.get().craft(autoCompactingInventory, world.getRegistryManager()).isEmpty()) {
-					optionalCraftingRecipe = Optional.empty();
-					currentCache.put(itemKey, optionalCraftingRecipe);
-				} else {
-					currentCache.put(itemKey, optionalCraftingRecipe);
-					
-					this.lastItemVariant = itemKey;
-					return optionalCraftingRecipe;
-				}
-			}
-		}
-		
-		return Optional.empty();
-	}
-	
 	public boolean tryCraftInInventory(DefaultedList<ItemStack> inventory, CraftingRecipe craftingRecipe, ItemVariant itemVariant) {
 		ItemStack inputStack = itemVariant.toStack(this.autoCraftingMode.getItemCount());
 		List<ItemStack> remainders = InventoryHelper.removeFromInventoryWithRemainders(inputStack, this);
@@ -357,7 +455,7 @@ public class CompactingChestBlockEntity extends SpectrumChestBlockEntity impleme
 	public void applySettings(PacketByteBuf buf) {
 		int autoCraftingModeInt = buf.readInt();
 		this.autoCraftingMode = AutoCompactingInventory.AutoCraftingMode.values()[autoCraftingModeInt];
-		this.lastCraftingRecipe = null;
+		updateCraftableVariants();
 	}
 	
 	@Override
@@ -0,0 +1,113 @@
+package de.dafuqs.spectrum.blocks.chests;
+
+import de.dafuqs.spectrum.inventories.*;
+import net.fabricmc.fabric.api.transfer.v1.item.*;
+import net.minecraft.item.*;
+import net.minecraft.recipe.*;
+import net.minecraft.util.collection.*;
+import net.minecraft.world.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The crafting recipe a {@link CompactingChestBlockEntity} uses to compact an item variant, per {@link AutoCompactingInventory.AutoCraftingMode}.
+ * Built from the recipe manager the first time it is needed after a data pack (re)load, so compacting chests
+ * never have to probe the recipe manager themselves.
+ * <p>
+ * Only variants without nbt can be known up front. Variants with nbt are looked up once and remembered.
+ */
+public class CompactionTable {
+
+	private static @Nullable CompactionTable instance;
+	private static int generation = 0;
+
+	private final Map<AutoCompactingInventory.AutoCraftingMode, Map<ItemVariant, CraftingRecipe>> recipes = new EnumMap<>(AutoCompactingInventory.AutoCraftingMode.class);
+	private final Map<AutoCompactingInventory.AutoCraftingMode, Map<ItemVariant, Optional<CraftingRecipe>>> nbtVariantRecipes = new EnumMap<>(AutoCompactingInventory.AutoCraftingMode.class);
+	private final AutoCompactingInventory autoCompactingInventory = new AutoCompactingInventory();
+
+	private CompactionTable() {
+		for (AutoCompactingInventory.AutoCraftingMode mode : AutoCompactingInventory.AutoCraftingMode.values()) {
+			this.recipes.put(mode, new HashMap<>());
+			this.nbtVariantRecipes.put(mode, new HashMap<>());
+		}
+	}
+
+	public static CompactionTable get(World world) {
+		if (instance == null) {
+			instance = build(world);
+		}
+		return instance;
+	}
+
+	/**
+	 * Drops the table, so it is rebuilt from the current recipes when it is needed next
+	 */
+	public static void invalidate() {
+		instance = null;
+		generation++;
+	}
+
+	/**
+	 * @return a number that changes each time the table gets invalidated
+	 */
+	public static int getGeneration() {
+		return generation;
+	}
+
+	private static CompactionTable build(World world) {
+		CompactionTable table = new CompactionTable();
+		Collection<CraftingRecipe> craftingRecipes = world.getRecipeManager().listAllOfType(RecipeType.CRAFTING);
+
+		for (AutoCompactingInventory.AutoCraftingMode mode : AutoCompactingInventory.AutoCraftingMode.values()) {
+			Map<ItemVariant, CraftingRecipe> modeRecipes = table.recipes.get(mode);
+			Set<Item> probedItems = new HashSet<>();
+
+			for (CraftingRecipe recipe : craftingRecipes) {
+				DefaultedList<Ingredient> ingredients = recipe.getIngredients();
+				if (ingredients.size() != mode.getItemCount()) {
+					continue;
+				}
+
+				// a compacting recipe consists of a single item in every slot
+				for (ItemStack candidate : ingredients.get(0).getMatchingStacks()) {
+					if (candidate.hasNbt() || !matchesAll(ingredients, candidate) || !probedItems.add(candidate.getItem())) {
+						continue;
+					}
+
+					// there might be multiple matching recipes. Let the recipe manager decide, like it would when crafting by hand
+					ItemVariant variant = ItemVariant.of(candidate.getItem());
+					table.lookup(mode, variant, world).ifPresent(compactingRecipe -> modeRecipes.put(variant, compactingRecipe));
+				}
+			}
+		}
+
+		return table;
+	}
+
+	private static boolean matchesAll(List<Ingredient> ingredients, ItemStack stack) {
+		for (Ingredient ingredient : ingredients) {
+			if (!ingredient.test(stack)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public @Nullable CraftingRecipe getRecipe(AutoCompactingInventory.AutoCraftingMode mode, ItemVariant variant, World world) {
+		if (!variant.hasNbt()) {
+			return this.recipes.get(mode).get(variant);
+		}
+		return this.nbtVariantRecipes.get(mode).computeIfAbsent(variant, v -> lookup(mode, v, world)).orElse(null);
+	}
+
+	private Optional<CraftingRecipe> lookup(AutoCompactingInventory.AutoCraftingMode mode, ItemVariant variant, World world) {
+		this.autoCompactingInventory.setCompacting(mode, variant.toStack());
+		Optional<CraftingRecipe> recipe = world.getRecipeManager().getFirstMatch(RecipeType.CRAFTING, this.autoCompactingInventory, world);
+		if (recipe.isEmpty() || recipe.get().craft(this.autoCompactingInventory, world.getRegistryManager()).isEmpty()) {
+			return Optional.empty();
+		}
+		return recipe;
+	}
+
+}
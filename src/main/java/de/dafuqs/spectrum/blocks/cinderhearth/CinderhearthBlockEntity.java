@@ -6,6 +6,7 @@ import de.dafuqs.spectrum.api.energy.color.*;
 import de.dafuqs.spectrum.api.energy.storage.*;
 import de.dafuqs.spectrum.api.item.*;
 import de.dafuqs.spectrum.api.recipe.*;
+import de.dafuqs.spectrum.blocks.*;
 import de.dafuqs.spectrum.blocks.upgrade.*;
 import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.inventories.*;
@@ -38,7 +39,7 @@ import org.jetbrains.annotations.*;
 
 import java.util.*;
 
-public class CinderhearthBlockEntity extends LockableContainerBlockEntity implements MultiblockCrafter, SidedInventory, ExtendedScreenHandlerFactory, InkStorageBlockEntity<IndividualCappedInkStorage> {
+public class CinderhearthBlockEntity extends LockableContainerBlockEntity implements MultiblockCrafter, MultiblockStateCache.Holder, SidedInventory, ExtendedScreenHandlerFactory, InkStorageBlockEntity<IndividualCappedInkStorage> {
 	
 	public static final int INVENTORY_SIZE = 11;
 	public static final int INPUT_SLOT_ID = 0;
@@ -66,6 +67,7 @@ public class CinderhearthBlockEntity extends LockableContainerBlockEntity implem
 	protected boolean inkDirty;
 	
 	protected CinderHearthStructureType structure = CinderHearthStructureType.NONE;
+	protected final MultiblockStateCache<CinderHearthStructureType> structureType;
 	
 	protected final PropertyDelegate propertyDelegate;
 	
@@ -114,6 +116,7 @@ public class CinderhearthBlockEntity extends LockableContainerBlockEntity implem
 		super(SpectrumBlockEntities.CINDERHEARTH, pos, state);
 		this.inventory = DefaultedList.ofSize(INVENTORY_SIZE, ItemStack.EMPTY);
 		this.inkStorage = new IndividualCappedInkStorage(INK_STORAGE_SIZE, USED_INK_COLORS);
+		this.structureType = new MultiblockStateCache<>(pos, 7, world -> CinderhearthBlock.verifyStructure(world, pos, null));
 		
 		this.propertyDelegate = new PropertyDelegate() {
 			@Override
@@ -196,6 +199,11 @@ public class CinderhearthBlockEntity extends LockableContainerBlockEntity implem
 		buf.writeBlockPos(pos);
 	}
 	
+	@Override
+	public MultiblockStateCache<?> getMultiblockStateCache() {
+		return this.structureType;
+	}
+	
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
@@ -383,7 +391,7 @@ public class CinderhearthBlockEntity extends LockableContainerBlockEntity implem
 			return false;
 		}
 		
-		cinderhearthBlockEntity.structure = CinderhearthBlock.verifyStructure(world, blockPos, null);
+		cinderhearthBlockEntity.structure = cinderhearthBlockEntity.structureType.get(world);
 		if (cinderhearthBlockEntity.structure == CinderHearthStructureType.NONE) {
 			world.playSound(null, cinderhearthBlockEntity.getPos(), SpectrumSoundEvents.CRAFTING_ABORTED, SoundCategory.BLOCKS, 0.9F + world.random.nextFloat() * 0.2F, 0.9F + world.random.nextFloat() * 0.2F);
 			return false;
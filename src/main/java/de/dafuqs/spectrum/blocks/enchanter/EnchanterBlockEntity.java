@@ -43,7 +43,7 @@ import org.jetbrains.annotations.*;
 
 import java.util.*;
 
-public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implements MultiblockCrafter {
+public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implements MultiblockCrafter, MultiblockStateCache.Holder {
 	
 	public static final List<Vec3i> ITEM_BOWL_OFFSETS = new ArrayList<>() {{
 		add(new Vec3i(5, 0, -3));
@@ -62,6 +62,13 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 	
 	public static final int INVENTORY_SIZE = 2; // 0: any itemstack, 1: Knowledge Gem
 	
+	// both recipe types require a matching item in the center
+	private static final int[] CENTER_SLOT = {0};
+	private static final RecipeIndex<Inventory, EnchanterRecipe> ENCHANTER_RECIPE_INDEX = new RecipeIndex<>(() -> SpectrumRecipeTypes.ENCHANTER, recipe ->
+			recipe.getClass() == EnchanterRecipe.class && !recipe.getIngredients().isEmpty() ? List.of(recipe.getIngredients().get(0)) : null);
+	private static final RecipeIndex<Inventory, EnchantmentUpgradeRecipe> ENCHANTMENT_UPGRADE_RECIPE_INDEX = new RecipeIndex<>(() -> SpectrumRecipeTypes.ENCHANTMENT_UPGRADE, recipe ->
+			recipe.getClass() == EnchantmentUpgradeRecipe.class && !recipe.getIngredients().isEmpty() ? List.of(recipe.getIngredients().get(0)) : null);
+	
 	protected UUID ownerUUID;
 	protected boolean canOwnerApplyConflictingEnchantments;
 	protected boolean canOwnerOverenchant;
@@ -84,8 +91,11 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 	@Nullable
 	private Direction itemFacing; // for rendering the item on the enchanter only
 	
+	protected final MultiblockStateCache<Boolean> structureComplete;
+	
 	public EnchanterBlockEntity(BlockPos pos, BlockState state) {
 		super(SpectrumBlockEntities.ENCHANTER, pos, state, INVENTORY_SIZE);
+		this.structureComplete = new MultiblockStateCache<>(pos, 10, world -> EnchanterBlock.verifyStructure(world, pos, null));
 		this.virtualInventoryIncludingBowlStacks = new SimpleInventory(INVENTORY_SIZE + 8);
 		this.currentItemProcessingTime = -1;
 	}
@@ -288,7 +298,7 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 		} else if (enchanterBlockEntity.currentRecipe instanceof EnchantmentUpgradeRecipe enchantmentUpgradeRecipe) {
 			playerCanCraft = enchantmentUpgradeRecipe.canPlayerCraft(lastInteractedPlayer) && (enchanterBlockEntity.canOwnerOverenchant || !enchantmentUpgradeRecipe.requiresUnlockedOverEnchanting());
 		}
-		boolean structureComplete = EnchanterBlock.verifyStructure(world, blockPos, null);
+		boolean structureComplete = enchanterBlockEntity.structureComplete.get(world);
 		
 		if (!playerCanCraft || !structureComplete) {
 			if (!structureComplete) {
@@ -569,7 +579,7 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 		recipeTestInventory.setStack(0, enchanterBlockEntity.virtualInventoryIncludingBowlStacks.getStack(0));
 		recipeTestInventory.setStack(1, enchanterBlockEntity.virtualInventoryIncludingBowlStacks.getStack(1));
 		
-		EnchantmentUpgradeRecipe enchantmentUpgradeRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.ENCHANTMENT_UPGRADE, enchanterBlockEntity.virtualInventoryIncludingBowlStacks, world).orElse(null);
+		EnchantmentUpgradeRecipe enchantmentUpgradeRecipe = ENCHANTMENT_UPGRADE_RECIPE_INDEX.getFirstMatch(enchanterBlockEntity.virtualInventoryIncludingBowlStacks, world, CENTER_SLOT).orElse(null);
 		if (enchantmentUpgradeRecipe == null) {
 			EnchanterRecipe enchanterRecipe = null;
 			boolean mirrored = false;
@@ -587,7 +597,7 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 				recipeTestInventory.setStack(8, enchanterBlockEntity.virtualInventoryIncludingBowlStacks.getStack((offset + 6 + 8) % 8 + 2));
 				recipeTestInventory.setStack(9, enchanterBlockEntity.virtualInventoryIncludingBowlStacks.getStack((offset + 7 + 8) % 8 + 2));
 				
-				enchanterRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.ENCHANTER, recipeTestInventory, world).orElse(null);
+				enchanterRecipe = ENCHANTER_RECIPE_INDEX.getFirstMatch(recipeTestInventory, world, CENTER_SLOT).orElse(null);
 				if (enchanterRecipe != null) {
 					break;
 				}
@@ -606,7 +616,7 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 					recipeTestInventory.setStack(8, enchanterBlockEntity.virtualInventoryIncludingBowlStacks.getStack((offset + 6 + 1 + 8) % 8 + 2));
 					recipeTestInventory.setStack(9, enchanterBlockEntity.virtualInventoryIncludingBowlStacks.getStack((offset + 7 - 1 + 8) % 8 + 2));
 					
-					enchanterRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.ENCHANTER, recipeTestInventory, world).orElse(null);
+					enchanterRecipe = ENCHANTER_RECIPE_INDEX.getFirstMatch(recipeTestInventory, world, CENTER_SLOT).orElse(null);
 					if (enchanterRecipe != null) {
 						mirrored = true;
 						break;
@@ -647,6 +657,11 @@ public class EnchanterBlockEntity extends InWorldInteractionBlockEntity implemen
 		}
 	}
 	
+	@Override
+	public MultiblockStateCache<?> getMultiblockStateCache() {
+		return this.structureComplete;
+	}
+	
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
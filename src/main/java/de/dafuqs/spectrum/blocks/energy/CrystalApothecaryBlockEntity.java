@@ -37,6 +37,7 @@ public class CrystalApothecaryBlockEntity extends LootableContainerBlockEntity i
 	protected long compensationWorldTime;
 	private DefaultedList<ItemStack> inventory;
 	private boolean listenerPaused;
+	private boolean watchingBlockChanges;
 	private UUID ownerUUID;
 	private String ownerName;
 	
@@ -136,6 +137,41 @@ public class CrystalApothecaryBlockEntity extends LootableContainerBlockEntity i
 		return this.blockPosEventTransferListener;
 	}
 	
+	@Override
+	public void setWorld(World world) {
+		super.setWorld(world);
+		if (!world.isClient && !this.watchingBlockChanges) {
+			BlockChangedEventSections.watch(world, this.pos, RANGE);
+			this.watchingBlockChanges = true;
+		}
+	}
+	
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		stopWatchingBlockChanges();
+	}
+	
+	/**
+	 * Called on removal and when the chunk unloads, which does not mark block entities as removed.
+	 * The flag makes sure the sections get watched only once, even if the removal got cancelled
+	 */
+	public void stopWatchingBlockChanges() {
+		if (this.watchingBlockChanges && this.world != null) {
+			BlockChangedEventSections.unwatch(this.world, this.pos, RANGE);
+			this.watchingBlockChanges = false;
+		}
+	}
+	
+	@Override
+	public void cancelRemoval() {
+		super.cancelRemoval();
+		if (this.world != null && !this.world.isClient && !this.watchingBlockChanges) {
+			BlockChangedEventSections.watch(this.world, this.pos, RANGE);
+			this.watchingBlockChanges = true;
+		}
+	}
+	
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
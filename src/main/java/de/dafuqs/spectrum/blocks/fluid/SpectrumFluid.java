@@ -1,13 +1,14 @@
 package de.dafuqs.spectrum.blocks.fluid;
 
 import de.dafuqs.spectrum.api.block.*;
-import de.dafuqs.spectrum.inventories.*;
 import de.dafuqs.spectrum.progression.*;
+import de.dafuqs.spectrum.recipe.*;
 import de.dafuqs.spectrum.recipe.fluid_converting.*;
 import net.minecraft.block.*;
 import net.minecraft.block.entity.*;
 import net.minecraft.entity.*;
 import net.minecraft.fluid.*;
+import net.minecraft.inventory.*;
 import net.minecraft.item.*;
 import net.minecraft.particle.*;
 import net.minecraft.recipe.*;
@@ -19,6 +20,7 @@ import net.minecraft.world.*;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 public abstract class SpectrumFluid extends FlowableFluid {
 	
@@ -119,16 +121,16 @@ public abstract class SpectrumFluid extends FlowableFluid {
 	
 	public abstract RecipeType<? extends FluidConvertingRecipe> getDippingRecipeType();
 	
-	private static final AutoCraftingInventory AUTO_INVENTORY = new AutoCraftingInventory(1, 1);
+	private static final Map<RecipeType<?>, SingleInputRecipeCache<?>> CONVERSION_RECIPE_CACHES = new ConcurrentHashMap<>();
 	
+	@SuppressWarnings("unchecked")
 	public <R extends FluidConvertingRecipe> R getConversionRecipeFor(RecipeType<R> recipeType, @NotNull World world, ItemStack itemStack) {
-		AUTO_INVENTORY.setInputInventory(Collections.singletonList(itemStack));
-		return world.getRecipeManager().getFirstMatch(recipeType, AUTO_INVENTORY, world).orElse(null);
+		SingleInputRecipeCache<R> cache = (SingleInputRecipeCache<R>) CONVERSION_RECIPE_CACHES.computeIfAbsent(recipeType, type -> new SingleInputRecipeCache<>(() -> recipeType));
+		return cache.getRecipeFor(itemStack, world);
 	}
 	
 	public ItemStack craft(FluidConvertingRecipe recipe, ItemStack itemStack, World world) {
-		AUTO_INVENTORY.setInputInventory(Collections.singletonList(itemStack));
-		return recipe.craft(AUTO_INVENTORY, world.getRegistryManager());
+		return recipe.craft(new SimpleInventory(itemStack), world.getRegistryManager());
 	}
 
 }
\ No newline at end of file
@@ -83,9 +83,13 @@ public class FusionShrineBlock extends InWorldInteractionBlock {
 		return false;
 	}
 	
+	public static boolean isStructureComplete(World world, BlockPos blockPos) {
+		return SpectrumMultiblocks.get(SpectrumMultiblocks.FUSION_SHRINE).validate(world, blockPos.down(), BlockRotation.NONE);
+	}
+	
 	public static boolean verifyStructure(World world, BlockPos blockPos, @Nullable ServerPlayerEntity serverPlayerEntity) {
 		Multiblock multiblock = SpectrumMultiblocks.get(SpectrumMultiblocks.FUSION_SHRINE);
-		boolean valid = multiblock.validate(world, blockPos.down(), BlockRotation.NONE);
+		boolean valid = isStructureComplete(world, blockPos);
 		
 		if (valid) {
 			if (serverPlayerEntity != null) {
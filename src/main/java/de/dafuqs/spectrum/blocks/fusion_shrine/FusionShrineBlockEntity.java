@@ -8,6 +8,7 @@ import de.dafuqs.spectrum.blocks.upgrade.*;
 import de.dafuqs.spectrum.networking.*;
 import de.dafuqs.spectrum.particle.*;
 import de.dafuqs.spectrum.progression.*;
+import de.dafuqs.spectrum.recipe.*;
 import de.dafuqs.spectrum.recipe.fusion_shrine.*;
 import de.dafuqs.spectrum.registries.*;
 import net.fabricmc.fabric.api.transfer.v1.fluid.*;
@@ -30,9 +31,13 @@ import org.jetbrains.annotations.*;
 import java.util.*;
 
 @SuppressWarnings("UnstableApiUsage")
-public class FusionShrineBlockEntity extends InWorldInteractionBlockEntity implements PlayerOwned, Upgradeable {
+public class FusionShrineBlockEntity extends InWorldInteractionBlockEntity implements PlayerOwned, Upgradeable, MultiblockStateCache.Holder {
 
     protected static final int INVENTORY_SIZE = 7;
+    
+    // dynamic recipes like shooting star hardening match on their own terms
+    private static final RecipeIndex<FusionShrineBlockEntity, FusionShrineRecipe> RECIPE_INDEX = new RecipeIndex<>(() -> SpectrumRecipeTypes.FUSION_SHRINE, recipe ->
+            recipe.getClass() == FusionShrineRecipe.class ? recipe.getIngredients() : null);
 
     private UUID ownerUUID;
     private UpgradeHolder upgrades;
@@ -62,8 +67,11 @@ public class FusionShrineBlockEntity extends InWorldInteractionBlockEntity imple
         }
     };
 
+    protected final MultiblockStateCache<Boolean> structureComplete;
+
     public FusionShrineBlockEntity(BlockPos pos, BlockState state) {
         super(SpectrumBlockEntities.FUSION_SHRINE, pos, state, INVENTORY_SIZE);
+        this.structureComplete = new MultiblockStateCache<>(pos, 8, world -> FusionShrineBlock.isStructureComplete(world, pos));
     }
 
     public static void clientTick(@NotNull World world, BlockPos blockPos, BlockState blockState, FusionShrineBlockEntity fusionShrineBlockEntity) {
@@ -144,7 +152,7 @@ public class FusionShrineBlockEntity extends InWorldInteractionBlockEntity imple
 			PlayerEntity lastInteractedPlayer = fusionShrineBlockEntity.getOwnerIfOnline();
 			
 			boolean recipeConditionsMet = recipe.canPlayerCraft(lastInteractedPlayer) && recipe.areConditionMetCurrently((ServerWorld) world, blockPos);
-			boolean structureComplete = FusionShrineBlock.verifyStructure(world, blockPos, null);
+			boolean structureComplete = fusionShrineBlockEntity.structureComplete.get(world);
 			boolean structureCompleteWithSky = FusionShrineBlock.verifySkyAccess((ServerWorld) world, blockPos) && structureComplete;
 			
 			if (!recipeConditionsMet || !structureCompleteWithSky) {
@@ -186,7 +194,7 @@ public class FusionShrineBlockEntity extends InWorldInteractionBlockEntity imple
 				return fusionShrineBlockEntity.currentRecipe;
 			}
 		}
-		return world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.FUSION_SHRINE, fusionShrineBlockEntity, world).orElse(null);
+		return RECIPE_INDEX.getFirstMatch(fusionShrineBlockEntity, world).orElse(null);
 	}
 	
 	private static void craft(World world, BlockPos blockPos, FusionShrineBlockEntity fusionShrineBlockEntity, FusionShrineRecipe recipe) {
@@ -214,6 +222,11 @@ public class FusionShrineBlockEntity extends InWorldInteractionBlockEntity imple
 		world.updateComparators(pos, world.getBlockState(pos).getBlock());
 	}
 
+	@Override
+	public MultiblockStateCache<?> getMultiblockStateCache() {
+		return this.structureComplete;
+	}
+	
 	@Override
 	public void readNbt(NbtCompound nbt) {
         super.readNbt(nbt);
@@ -25,6 +25,9 @@ public class SpectrumSkullBlock extends SkullBlock {
 	@Nullable
 	private static BlockPattern witherBossPattern;
 	
+	// types whose models get baked into the chunk mesh. Set by the client once the head models got loaded, empty if baking is disabled
+	private static Set<SpectrumSkullType> bakeableSkullTypes = Set.of();
+	
 	public SpectrumSkullBlock(SpectrumSkullType skullType, Settings settings) {
 		super(skullType, settings);
 		MOB_HEADS.put(skullType, this);
@@ -36,6 +39,22 @@ public class SpectrumSkullBlock extends SkullBlock {
 		return (SpectrumSkullType) super.getSkullType();
 	}
 	
+	@Override
+	public BlockRenderType getRenderType(BlockState state) {
+		return isBaked(getSkullType()) ? BlockRenderType.MODEL : super.getRenderType(state);
+	}
+	
+	/**
+	 * Baked heads are rendered as part of the chunk mesh instead of by their block entity renderer
+	 */
+	public static boolean isBaked(SpectrumSkullType skullType) {
+		return bakeableSkullTypes.contains(skullType);
+	}
+	
+	public static void setBakeableSkullTypes(Set<SpectrumSkullType> skullTypes) {
+		bakeableSkullTypes = skullTypes;
+	}
+	
 	public static Optional<EntityType<?>> getEntityTypeOfSkullStack(ItemStack itemStack) {
 		Item item = itemStack.getItem();
 		if (item instanceof SpectrumSkullBlockItem spectrumSkullBlockItem) {
@@ -18,6 +18,11 @@ public class SpectrumWallSkullBlock extends WallSkullBlock {
 		MOB_WALL_HEADS.put(skullType, this);
 	}
 	
+	@Override
+	public BlockRenderType getRenderType(BlockState state) {
+		return SpectrumSkullBlock.isBaked((SpectrumSkullType) getSkullType()) ? BlockRenderType.MODEL : super.getRenderType(state);
+	}
+	
 	public static Block getMobWallHead(SpectrumSkullType skullType) {
 		return SpectrumWallSkullBlock.MOB_WALL_HEADS.get(skullType);
 	}
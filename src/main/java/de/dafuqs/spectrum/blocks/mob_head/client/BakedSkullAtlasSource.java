@@ -0,0 +1,54 @@
+package de.dafuqs.spectrum.blocks.mob_head.client;
+
+import com.mojang.serialization.*;
+import com.mojang.serialization.codecs.*;
+import de.dafuqs.spectrum.*;
+import de.dafuqs.spectrum.mixin.client.accessors.*;
+import net.fabricmc.api.*;
+import net.minecraft.client.texture.atlas.*;
+import net.minecraft.resource.*;
+import net.minecraft.util.*;
+
+import java.util.*;
+
+/**
+ * Adds the entity textures of mob heads to the block atlas, so {@link BakedSkullModel} can use them in the chunk mesh.
+ * The textures only get added while heads are baked at all, and only for heads that can be baked.
+ * Listed in assets/minecraft/atlases/blocks.json
+ */
+@Environment(EnvType.CLIENT)
+public record BakedSkullAtlasSource(List<Identifier> textures) implements AtlasSource {
+
+	public static final Codec<BakedSkullAtlasSource> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+			Identifier.CODEC.listOf().fieldOf("textures").forGetter(BakedSkullAtlasSource::textures)
+	).apply(instance, BakedSkullAtlasSource::new));
+
+	private static AtlasSourceType type;
+
+	public static void register() {
+		type = AtlasSourceManagerAccessor.invokeRegister(SpectrumCommon.locate("baked_mob_heads").toString(), CODEC);
+	}
+
+	@Override
+	public void load(ResourceManager resourceManager, SpriteRegions regions) {
+		if (!BakedSkullModel.canBake()) {
+			return;
+		}
+
+		for (Identifier texture : this.textures) {
+			Identifier resourceId = RESOURCE_FINDER.toResourcePath(texture);
+			Optional<Resource> resource = resourceManager.getResource(resourceId);
+			if (resource.isPresent()) {
+				regions.add(texture, resource.get());
+			} else {
+				SpectrumCommon.logWarning("Missing mob head texture " + resourceId);
+			}
+		}
+	}
+
+	@Override
+	public AtlasSourceType getType() {
+		return type;
+	}
+
+}
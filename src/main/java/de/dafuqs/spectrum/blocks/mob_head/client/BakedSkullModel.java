@@ -0,0 +1,216 @@
+package de.dafuqs.spectrum.blocks.mob_head.client;
+
+import de.dafuqs.spectrum.*;
+import de.dafuqs.spectrum.blocks.mob_head.*;
+import net.fabricmc.api.*;
+import net.fabricmc.fabric.api.renderer.v1.*;
+import net.fabricmc.fabric.api.renderer.v1.material.*;
+import net.fabricmc.fabric.api.renderer.v1.mesh.*;
+import net.fabricmc.fabric.api.renderer.v1.model.*;
+import net.fabricmc.fabric.api.renderer.v1.render.*;
+import net.fabricmc.fabric.api.util.*;
+import net.minecraft.block.*;
+import net.minecraft.client.*;
+import net.minecraft.client.render.*;
+import net.minecraft.client.render.model.*;
+import net.minecraft.client.texture.*;
+import net.minecraft.client.util.*;
+import net.minecraft.client.util.math.*;
+import net.minecraft.registry.*;
+import net.minecraft.screen.*;
+import net.minecraft.util.*;
+import net.minecraft.util.math.*;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Block model of mob heads with {@link de.dafuqs.spectrum.config.SpectrumConfig#BakedMobHeads} enabled.
+ * Renders the head model the block entity renderer would draw into the chunk mesh instead, so placed heads
+ * do not cost anything per frame once their chunk got built.
+ * <p>
+ * The mesh of each block state is captured from the head model once, the first time a chunk with it gets built.
+ * The entity textures of the heads are stitched into the block atlas for this by {@link BakedSkullAtlasSource}.
+ */
+@Environment(EnvType.CLIENT)
+public class BakedSkullModel extends ForwardingBakedModel {
+
+	private static final String TEXTURE_PREFIX = "textures/";
+	private static final String TEXTURE_SUFFIX = ".png";
+
+	private final SpectrumSkullType skullType;
+	private final Map<BlockState, Mesh> meshes = new ConcurrentHashMap<>();
+
+	public BakedSkullModel(BakedModel particleModel, SpectrumSkullType skullType) {
+		this.wrapped = particleModel;
+		this.skullType = skullType;
+	}
+
+	/**
+	 * @return the skull type of the block the model is for, or null if it is not one of the mob heads
+	 */
+	public static @Nullable SpectrumSkullType getSkullType(ModelIdentifier id) {
+		if (id.getVariant().equals("inventory")) {
+			return null;
+		}
+		Block block = Registries.BLOCK.get(new Identifier(id.getNamespace(), id.getPath()));
+		if (block instanceof SpectrumSkullBlock || block instanceof SpectrumWallSkullBlock) {
+			return SpectrumSkullBlock.getSkullType(block);
+		}
+		return null;
+	}
+
+	/**
+	 * Baking needs a renderer implementing the Fabric renderer API, which is missing with Sodium, but without Indium
+	 */
+	public static boolean canBake() {
+		return SpectrumCommon.CONFIG.BakedMobHeads && RendererAccess.INSTANCE.hasRenderer();
+	}
+
+	@Override
+	public boolean isVanillaAdapter() {
+		return false;
+	}
+
+	@Override
+	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<Random> randomSupplier, RenderContext context) {
+		Mesh mesh = this.meshes.computeIfAbsent(state, this::buildMesh);
+		if (mesh != null) {
+			mesh.outputTo(context.getEmitter());
+		}
+	}
+
+	private @Nullable Mesh buildMesh(BlockState state) {
+		Renderer renderer = RendererAccess.INSTANCE.getRenderer();
+		if (renderer == null) {
+			return null;
+		}
+
+		// the chunk mesh does not ambient occlude entity models nicely
+		RenderMaterial material = renderer.materialFinder().ambientOcclusion(TriState.FALSE).find();
+		MeshBuilder meshBuilder = renderer.meshBuilder();
+		QuadCapturingVertexConsumer vertexConsumer = new QuadCapturingVertexConsumer(meshBuilder.getEmitter(), material, getSprite());
+
+		SpectrumSkullModel model = SpectrumSkullBlockEntityRenderer.getModel(this.skullType);
+		SpectrumSkullBlockEntityRenderer.renderSkull(state, 0.0F, new MatrixStack(), layer -> vertexConsumer, LightmapTextureManager.MAX_LIGHT_COORDINATE, model, SpectrumSkullBlockEntityRenderer.getRenderLayer(this.skullType));
+		return meshBuilder.build();
+	}
+
+	private Sprite getSprite() {
+		Identifier textureId = SpectrumSkullBlockEntityRenderer.getTextureIdentifier(this.skullType);
+		String texturePath = textureId.getPath();
+		Identifier spriteId = new Identifier(textureId.getNamespace(), texturePath.substring(TEXTURE_PREFIX.length(), texturePath.length() - TEXTURE_SUFFIX.length()));
+		return MinecraftClient.getInstance().getBakedModelManager().getAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE).getSprite(spriteId);
+	}
+
+	/**
+	 * Turns the vertices a model part renders into quads of a mesh, with their texture coordinates moved into the sprite.
+	 * Entity models are rendered without back face culling, but the chunk mesh culls them.
+	 * Each quad gets emitted a second time facing the other way, so flat parts stay visible from behind.
+	 */
+	private static class QuadCapturingVertexConsumer implements VertexConsumer {
+
+		private final QuadEmitter emitter;
+		private final RenderMaterial material;
+		private final Sprite sprite;
+		private final float[][] positions = new float[4][3];
+		private final float[][] uvs = new float[4][2];
+		private final float[][] normals = new float[4][3];
+		private final int[] colors = new int[4];
+		private int vertexIndex = 0;
+
+		private QuadCapturingVertexConsumer(QuadEmitter emitter, RenderMaterial material, Sprite sprite) {
+			this.emitter = emitter;
+			this.material = material;
+			this.sprite = sprite;
+		}
+
+		@Override
+		public VertexConsumer vertex(double x, double y, double z) {
+			float[] position = this.positions[this.vertexIndex];
+			position[0] = (float) x;
+			position[1] = (float) y;
+			position[2] = (float) z;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			this.colors[this.vertexIndex] = ColorHelper.Argb.getArgb(alpha, red, green, blue);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer texture(float u, float v) {
+			float[] uv = this.uvs[this.vertexIndex];
+			uv[0] = this.sprite.getFrameU(u * 16.0F);
+			uv[1] = this.sprite.getFrameV(v * 16.0F);
+			return this;
+		}
+
+		// the chunk mesh brings its own lighting and has no overlay
+
+		@Override
+		public VertexConsumer overlay(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer light(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			float[] normal = this.normals[this.vertexIndex];
+			normal[0] = x;
+			normal[1] = y;
+			normal[2] = z;
+			return this;
+		}
+
+		@Override
+		public void next() {
+			this.vertexIndex++;
+			if (this.vertexIndex == 4) {
+				emitQuad(false);
+				emitQuad(true);
+				this.vertexIndex = 0;
+			}
+		}
+
+		private void emitQuad(boolean backside) {
+			for (int i = 0; i < 4; i++) {
+				// reversing the vertex order flips the winding, and with it the side that gets culled
+				int vertex = backside ? 3 - i : i;
+				float[] position = this.positions[vertex];
+				float[] uv = this.uvs[vertex];
+				float[] normal = this.normals[vertex];
+				float normalSign = backside ? -1.0F : 1.0F;
+
+				this.emitter.pos(i, position[0], position[1], position[2]);
+				this.emitter.uv(i, uv[0], uv[1]);
+				this.emitter.normal(i, normal[0] * normalSign, normal[1] * normalSign, normal[2] * normalSign);
+				this.emitter.color(i, this.colors[vertex]);
+			}
+			this.emitter.material(this.material);
+			this.emitter.emit();
+		}
+
+		// colors are always passed per vertex when capturing
+
+		@Override
+		public void fixedColor(int red, int green, int blue, int alpha) {
+		}
+
+		@Override
+		public void unfixColor() {
+		}
+
+	}
+
+}
@@ -27,6 +27,17 @@ public class SpectrumSkullBlockEntityRenderer implements BlockEntityRenderer<Spe
 
     public SpectrumSkullBlockEntityRenderer(BlockEntityRendererFactory.Context renderContext) {
         MODELS = getModels(renderContext.getLayerRenderDispatcher());
+        
+        // decided on resource reload, together with stitching the head textures into the block atlas
+        Set<SpectrumSkullType> bakeableSkullTypes = EnumSet.noneOf(SpectrumSkullType.class);
+        if (BakedSkullModel.canBake()) {
+            for (Map.Entry<SkullBlock.SkullType, Pair<SpectrumSkullModel, Identifier>> entry : MODELS.entrySet()) {
+                if (entry.getKey() instanceof SpectrumSkullType skullType && entry.getValue().getLeft().canBeBaked()) {
+                    bakeableSkullTypes.add(skullType);
+                }
+            }
+        }
+        SpectrumSkullBlock.setBakeableSkullTypes(Collections.unmodifiableSet(bakeableSkullTypes));
     }
     
     public static Map<SkullBlock.SkullType, Pair<SpectrumSkullModel, Identifier>> getModels(EntityModelLoader modelLoader) {
@@ -163,24 +174,30 @@ public class SpectrumSkullBlockEntityRenderer implements BlockEntityRenderer<Spe
 
     @Override
     public void render(SpectrumSkullBlockEntity spectrumSkullBlockEntity, float tickDelta, MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, int light, int j) {
-        BlockState blockState = spectrumSkullBlockEntity.getCachedState();
-        Direction direction = null;
-        float yaw = 22.5F;
-        if (blockState.getBlock() instanceof WallSkullBlock) {
-            direction = blockState.get(WallSkullBlock.FACING);
-            yaw *= (2 + direction.getHorizontal()) * 4;
-        } else {
-            yaw *= blockState.get(SkullBlock.ROTATION);
-        }
         SpectrumSkullType skullType = SpectrumSkullBlock.getSkullType(spectrumSkullBlockEntity.getCachedState().getBlock());
         
         if (skullType == null) {
             skullType = SpectrumSkullType.PIG;
+        } else if (SpectrumSkullBlock.isBaked(skullType)) {
+            // already part of the chunk mesh
+            return;
         }
         SpectrumSkullModel model = MODELS.get(skullType).getLeft();
 
         RenderLayer renderLayer = getRenderLayer(skullType);
-        renderSkull(direction, yaw, tickDelta, matrixStack, vertexConsumerProvider, light, model, renderLayer);
+        renderSkull(spectrumSkullBlockEntity.getCachedState(), tickDelta, matrixStack, vertexConsumerProvider, light, model, renderLayer);
+    }
+    
+    public static void renderSkull(BlockState blockState, float animationProgress, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light, SpectrumSkullModel model, RenderLayer renderLayer) {
+        Direction direction = null;
+        float yaw = 22.5F;
+        if (blockState.getBlock() instanceof WallSkullBlock) {
+            direction = blockState.get(WallSkullBlock.FACING);
+            yaw *= (2 + direction.getHorizontal()) * 4;
+        } else {
+            yaw *= blockState.get(SkullBlock.ROTATION);
+        }
+        renderSkull(direction, yaw, animationProgress, matrices, vertexConsumers, light, model, renderLayer);
     }
     
     public static void renderSkull(@Nullable Direction direction, float yaw, float animationProgress, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light, SpectrumSkullModel model, RenderLayer renderLayer) {
@@ -193,8 +210,11 @@ public class SpectrumSkullBlockEntityRenderer implements BlockEntityRenderer<Spe
 
         matrices.scale(-1.0F, -1.0F, 1.0F);
         VertexConsumer vertexConsumer = vertexConsumers.getBuffer(renderLayer);
-        model.setHeadRotation(animationProgress, yaw, 0.0F);
-        model.render(matrices, vertexConsumer, vertexConsumers, light, OverlayTexture.DEFAULT_UV, 1.0F, 1.0F, 1.0F, 1.0F);
+        // baked heads get built on chunk builder threads, using the same models
+        synchronized (model) {
+            model.setHeadRotation(animationProgress, yaw, 0.0F);
+            model.render(matrices, vertexConsumer, vertexConsumers, light, OverlayTexture.DEFAULT_UV, 1.0F, 1.0F, 1.0F, 1.0F);
+        }
         matrices.pop();
     }
     
@@ -38,4 +38,12 @@ public abstract class SpectrumSkullModel extends SkullBlockEntityModel {
 		return 0.86F;
 	}
 	
+	/**
+	 * Whether the model can be baked into the chunk mesh: it has to render its head in a single texture,
+	 * without tinting or glowing parts
+	 */
+	public boolean canBeBaked() {
+		return true;
+	}
+	
 }
\ No newline at end of file
@@ -43,4 +43,10 @@ public class EndermanHeadModel extends SpectrumSkullModel {
 		this.eyes.render(matrices, eyesVertexConsumer, 15728640, OverlayTexture.DEFAULT_UV, 1.0F, 1.0F, 1.0F, 1.0F);
 	}
 	
+	@Override
+	public boolean canBeBaked() {
+		// the eyes glow
+		return false;
+	}
+	
 }
\ No newline at end of file
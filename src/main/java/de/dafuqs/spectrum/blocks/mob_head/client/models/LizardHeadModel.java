@@ -70,4 +70,10 @@ public class LizardHeadModel extends SpectrumSkullModel {
 		this.frills.render(matrices, vertexConsumer, light, overlay, color.x, color.y, color.z, alpha);
 	}
 	
+	@Override
+	public boolean canBeBaked() {
+		// the frills are tinted and use their own layer
+		return false;
+	}
+	
 }
\ No newline at end of file
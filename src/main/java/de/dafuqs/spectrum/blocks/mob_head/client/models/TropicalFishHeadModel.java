@@ -60,4 +60,10 @@ public class TropicalFishHeadModel extends SpectrumSkullModel {
 		this.pattern.render(matrices, vertexConsumer, light, overlay, colorComponents2[0], colorComponents2[1], colorComponents2[2], alpha);
 	}
 	
+	@Override
+	public boolean canBeBaked() {
+		// the head and pattern are tinted and use different textures
+		return false;
+	}
+	
 }
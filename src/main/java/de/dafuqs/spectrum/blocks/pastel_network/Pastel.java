@@ -42,6 +42,7 @@ public class Pastel {
 
     public static void clearServerInstance() {
         serverManager = null;
+        PastelStorageWatcher.clear();
     }
 
 }
@@ -1,6 +1,6 @@
 package de.dafuqs.spectrum.blocks.pastel_network.network;
 
-import de.dafuqs.spectrum.blocks.pastel_network.*;
+import de.dafuqs.spectrum.*;
 import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
 import net.fabricmc.api.*;
 import net.fabricmc.fabric.api.client.rendering.v1.*;
@@ -8,9 +8,6 @@ import net.minecraft.client.*;
 import net.minecraft.client.util.math.*;
 import net.minecraft.util.math.*;
 import net.minecraft.world.*;
-import org.jgrapht.*;
-import org.jgrapht.graph.*;
-import org.joml.*;
 
 import java.util.*;
 
@@ -18,6 +15,7 @@ import java.util.*;
 public class ClientPastelNetworkManager implements PastelNetworkManager {
 	
 	private final List<PastelNetwork> networks = new ArrayList<>();
+	private final Map<PastelNetwork, PastelBeamCache> beamCaches = new IdentityHashMap<>();
 	
 	@Override
 	public PastelNetwork JoinOrCreateNetwork(PastelNodeBlockEntity node, UUID uuid) {
@@ -34,6 +32,7 @@ public class ClientPastelNetworkManager implements PastelNetworkManager {
 				// network empty => delete
 				if (!network.hasNodes()) {
 					this.networks.remove(network);
+					this.beamCaches.remove(network);
 				}
 			}
 		}
@@ -90,6 +89,7 @@ public class ClientPastelNetworkManager implements PastelNetworkManager {
 
 		parentNetwork.incorporate(otherNetwork, node, parent);
 		this.networks.remove(otherNetwork);
+		this.beamCaches.remove(otherNetwork);
 	}
 
 	@Override
@@ -97,8 +97,9 @@ public class ClientPastelNetworkManager implements PastelNetworkManager {
 		PastelNetwork network = node.getParentNetwork();
 		if (network != null) {
 			network.removeNode(node, reason);
-			if (network.nodes.size() == 0) {
+			if (!network.hasNodes()) {
 				this.networks.remove(network);
+				this.beamCaches.remove(network);
 			}
 		}
 	}
@@ -110,33 +111,26 @@ public class ClientPastelNetworkManager implements PastelNetworkManager {
 	}
 	
 	public void renderLines(WorldRenderContext context) {
+		int renderDistance = SpectrumCommon.CONFIG.PastelNetworkBeamRenderDistance;
+		if (renderDistance <= 0 || this.networks.isEmpty()) {
+			return;
+		}
+		
 		MinecraftClient client = MinecraftClient.getInstance();
+		final MatrixStack matrices = context.matrixStack();
+		final Vec3d pos = context.camera().getPos();
+		double maxSquaredDistance = (double) renderDistance * renderDistance;
+		
+		matrices.push();
+		matrices.translate(-pos.x, -pos.y, -pos.z);
 		for (PastelNetwork network : this.networks) {
 			if (network.getWorld().getDimension() != context.world().getDimension()) continue;
-			Graph<PastelNodeBlockEntity, DefaultEdge> graph = network.getGraph();
-			int color = network.getColor();
-			float[] colors = PastelRenderHelper.unpackNormalizedColor(color);
 			
-			for (DefaultEdge edge : graph.edgeSet()) {
-				PastelNodeBlockEntity source = graph.getEdgeSource(edge);
-				PastelNodeBlockEntity target = graph.getEdgeTarget(edge);
-				
-				final MatrixStack matrices = context.matrixStack();
-				final Vec3d pos = context.camera().getPos();
-				matrices.push();
-				matrices.translate(-pos.x, -pos.y, -pos.z);
-				PastelRenderHelper.renderLineTo(context.matrixStack(), context.consumers(), colors, source.getPos(), target.getPos());
-				PastelRenderHelper.renderLineTo(context.matrixStack(), context.consumers(), colors, target.getPos(), source.getPos());
-				
-				if (client.options.debugEnabled) {
-					Vec3d offset = Vec3d.ofCenter(target.getPos()).subtract(Vec3d.of(source.getPos()));
-					Vec3d normalized = offset.normalize();
-					Matrix4f positionMatrix = context.matrixStack().peek().getPositionMatrix();
-					PastelRenderHelper.renderDebugLine(context.consumers(), color, offset, normalized, positionMatrix);
-				}
-				matrices.pop();
-			}
+			PastelBeamCache beams = this.beamCaches.computeIfAbsent(network, n -> new PastelBeamCache());
+			beams.update(network);
+			beams.render(matrices, context.consumers(), context.frustum(), pos, maxSquaredDistance, network.getColor(), client.options.debugEnabled);
 		}
+		matrices.pop();
 	}
 	
 }
\ No newline at end of file
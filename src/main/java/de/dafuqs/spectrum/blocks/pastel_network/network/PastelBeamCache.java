@@ -0,0 +1,99 @@
+package de.dafuqs.spectrum.blocks.pastel_network.network;
+
+import de.dafuqs.spectrum.blocks.pastel_network.*;
+import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
+import it.unimi.dsi.fastutil.longs.*;
+import net.fabricmc.api.*;
+import net.minecraft.client.render.*;
+import net.minecraft.client.util.math.*;
+import net.minecraft.util.math.*;
+import org.jetbrains.annotations.*;
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.joml.*;
+
+import java.util.*;
+
+/**
+ * The beams of a single network, grouped by the chunk section their center lies in.
+ * Sections are only rebuilt when the graph of the network changes. Each frame,
+ * whole sections outside the view frustum or the render distance get skipped.
+ * <p>
+ * The beams themselves are billboarded towards the camera, so their vertices still get emitted every frame.
+ */
+@Environment(EnvType.CLIENT)
+public class PastelBeamCache {
+
+	private int graphRevision = -1;
+	private List<Section> sections = List.of();
+
+	public void update(PastelNetwork network) {
+		Graph<PastelNodeBlockEntity, DefaultEdge> graph = network.getGraph();
+		if (this.graphRevision == network.getGraphRevision()) {
+			return;
+		}
+		this.graphRevision = network.getGraphRevision();
+
+		Long2ObjectMap<Section> sectionsByPos = new Long2ObjectLinkedOpenHashMap<>();
+		for (DefaultEdge edge : graph.edgeSet()) {
+			BlockPos source = graph.getEdgeSource(edge).getPos();
+			BlockPos target = graph.getEdgeTarget(edge).getPos();
+			long sectionPos = ChunkSectionPos.asLong(
+					ChunkSectionPos.getSectionCoord((source.getX() + target.getX()) >> 1),
+					ChunkSectionPos.getSectionCoord((source.getY() + target.getY()) >> 1),
+					ChunkSectionPos.getSectionCoord((source.getZ() + target.getZ()) >> 1));
+			sectionsByPos.computeIfAbsent(sectionPos, pos -> new Section()).add(source, target);
+		}
+		this.sections = new ArrayList<>(sectionsByPos.values());
+	}
+
+	public void render(MatrixStack matrices, VertexConsumerProvider consumers, @Nullable Frustum frustum, Vec3d cameraPos, double maxSquaredDistance, int color, boolean debug) {
+		float[] colors = PastelRenderHelper.unpackNormalizedColor(color);
+		for (Section section : this.sections) {
+			if (squaredDistanceTo(section.bounds, cameraPos) > maxSquaredDistance) {
+				continue;
+			}
+			if (frustum != null && !frustum.isVisible(section.bounds)) {
+				continue;
+			}
+
+			List<BlockPos> endpoints = section.endpoints;
+			for (int i = 0; i < endpoints.size(); i += 2) {
+				BlockPos source = endpoints.get(i);
+				BlockPos target = endpoints.get(i + 1);
+				PastelRenderHelper.renderLineTo(matrices, consumers, colors, source, target);
+				PastelRenderHelper.renderLineTo(matrices, consumers, colors, target, source);
+
+				if (debug) {
+					Vec3d offset = Vec3d.ofCenter(target).subtract(Vec3d.of(source));
+					Vec3d normalized = offset.normalize();
+					Matrix4f positionMatrix = matrices.peek().getPositionMatrix();
+					PastelRenderHelper.renderDebugLine(consumers, color, offset, normalized, positionMatrix);
+				}
+			}
+		}
+	}
+
+	private static double squaredDistanceTo(Box box, Vec3d pos) {
+		double x = Math.max(Math.max(box.minX - pos.x, pos.x - box.maxX), 0);
+		double y = Math.max(Math.max(box.minY - pos.y, pos.y - box.maxY), 0);
+		double z = Math.max(Math.max(box.minZ - pos.z, pos.z - box.maxZ), 0);
+		return x * x + y * y + z * z;
+	}
+
+	private static class Section {
+
+		// source and target of each beam, one after the other
+		private final List<BlockPos> endpoints = new ArrayList<>();
+		private Box bounds;
+
+		private void add(BlockPos source, BlockPos target) {
+			this.endpoints.add(source);
+			this.endpoints.add(target);
+			Box beamBounds = new Box(source).union(new Box(target));
+			this.bounds = this.bounds == null ? beamBounds : this.bounds.union(beamBounds);
+		}
+
+	}
+
+}
@@ -11,18 +11,16 @@ import org.jgrapht.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
-import java.util.concurrent.*;
-import java.util.stream.*;
 
 public class PastelNetwork {
     
-    protected final Map<PastelNodeType, Set<PastelNodeBlockEntity>> nodes = new ConcurrentHashMap<>();
-    protected final Set<PastelNodeBlockEntity> priorityNodes = new HashSet<>();
-    protected final Set<PastelNodeBlockEntity> highPriorityNodes = new HashSet<>();
+    protected final PastelNodeIndex nodes = new PastelNodeIndex();
     protected @Nullable Graph<PastelNodeBlockEntity, DefaultEdge> graph;
 	protected final World world;
 	protected final UUID uuid;
-	protected final SchedulerMap<PastelTransmission> transmissions = new SchedulerMap<>();
+	protected final DueTickScheduler<PastelTransmission> transmissions = new DueTickScheduler<>();
+	// changes whenever the graph does, so data derived from it knows when to update
+	private int graphRevision = 0;
 
     public enum Priority {
         GENERIC,
@@ -33,24 +31,18 @@ public class PastelNetwork {
 	public PastelNetwork(World world, @Nullable UUID uuid) {
 		this.world = world;
 		this.uuid = uuid == null ? UUID.randomUUID() : uuid;
-		for (PastelNodeType type : PastelNodeType.values()) {
-			this.nodes.put(type, new HashSet<>());
-		}
 	}
 
     public void incorporate(PastelNetwork networkToIncorporate, PastelNodeBlockEntity node, PastelNodeBlockEntity otherNode) {
-        for (Map.Entry<PastelNodeType, Set<PastelNodeBlockEntity>> nodesToIncorporate : networkToIncorporate.getNodes().entrySet()) {
-            PastelNodeType type = nodesToIncorporate.getKey();
-            for (PastelNodeBlockEntity nodeToIncorporate : nodesToIncorporate.getValue()) {
-                this.nodes.get(type).add(nodeToIncorporate);
-                nodeToIncorporate.setParentNetwork(this);
-                updateNodePriority(nodeToIncorporate, nodeToIncorporate.getPriority());
-            }
+        for (PastelNodeBlockEntity nodeToIncorporate : networkToIncorporate.getAllNodes()) {
+            this.nodes.add(nodeToIncorporate);
+            nodeToIncorporate.setParentNetwork(this);
         }
 
         node.remember(otherNode);
         otherNode.remember(node);
         this.graph = buildGraph(this);
+        this.graphRevision++;
     }
 
     public World getWorld() {
@@ -60,10 +52,15 @@ public class PastelNetwork {
     public Graph<PastelNodeBlockEntity, DefaultEdge> getGraph() {
         if (this.graph == null) {
             this.graph = buildGraph(this);
+            this.graphRevision++;
         }
         return this.graph;
     }
 
+    public int getGraphRevision() {
+        return this.graphRevision;
+    }
+
     private static @NotNull SimpleGraph<PastelNodeBlockEntity, DefaultEdge> buildGraph(@NotNull PastelNetwork network) {
         SimpleGraph<PastelNodeBlockEntity, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
         var world = network.world;
@@ -79,9 +76,9 @@ public class PastelNetwork {
                 if (!world.isPosLoaded(pos.getX(), pos.getZ()))
                     continue;
 
-                var rememberedNode = network.getNodeAt(pos);
+                var rememberedNode = network.nodes.get(pos);
 
-                if (rememberedNode == null || !network.getAllNodes().contains(rememberedNode))
+                if (rememberedNode == null)
                     continue;
 
                 g.addEdge(node, rememberedNode);
@@ -96,7 +93,7 @@ public class PastelNetwork {
             return;
 
         this.graph.addVertex(node);
-        addPriorityNode(node);
+        this.graphRevision++;
     }
 
     public void addNodeAndLoadMemory(PastelNodeBlockEntity node) {
@@ -109,16 +106,14 @@ public class PastelNetwork {
             if (!world.isPosLoaded(memory.getX(), memory.getZ()))
                 continue;
 
-            var rememberedNode = getNodeAt(memory);
+            var rememberedNode = this.nodes.get(memory);
 
-            if (rememberedNode == null || !getAllNodes().contains(rememberedNode))
+            if (rememberedNode == null)
                 continue;
 
             this.graph.addEdge(node, rememberedNode);
         }
-
-        // check for priority
-        addPriorityNode(node);
+        this.graphRevision++;
     }
 
     /**
@@ -130,13 +125,11 @@ public class PastelNetwork {
 
         this.graph.addVertex(newNode);
         addAndRememberEdge(newNode, parent);
-
-        // check for priority
-        addPriorityNode(newNode);
     }
 
     public void addAndRememberEdge(PastelNodeBlockEntity newNode, PastelNodeBlockEntity parent) {
         getGraph().addEdge(newNode, parent);
+        this.graphRevision++;
         newNode.remember(parent);
         parent.remember(newNode);
     }
@@ -144,6 +137,7 @@ public class PastelNetwork {
     public void removeAndForgetEdge(PastelNodeBlockEntity node, PastelNodeBlockEntity parent) {
         if (graph != null) {
             graph.removeEdge(node, parent);
+            this.graphRevision++;
         }
 
         node.forget(parent);
@@ -161,12 +155,13 @@ public class PastelNetwork {
     }
 
     private boolean addNodeOrReturn(PastelNodeBlockEntity node, boolean allowGraphCreation) {
-        if (!this.nodes.get(node.getNodeType()).add(node)) {
+        if (!this.nodes.add(node)) {
             return true;
         }
 
         if (graph == null && allowGraphCreation) {
             this.graph = buildGraph(this);
+            this.graphRevision++;
             return false;
         }
 
@@ -177,31 +172,26 @@ public class PastelNetwork {
         return addNodeOrReturn(node, false);
     }
 
-    private void addPriorityNode(PastelNodeBlockEntity node) {
-        switch (node.getPriority()) {
-            case MODERATE -> priorityNodes.add(node);
-            case HIGH -> highPriorityNodes.add(node);
-        }
-    }
-
     public void updateNodePriority(PastelNodeBlockEntity node, Priority oldPriority) {
-        removePriorityNode(node, oldPriority);
-        addPriorityNode(node);
+        if (oldPriority != node.getPriority()) {
+            this.nodes.updatePriority(node);
+        }
     }
 
     protected boolean removeNode(PastelNodeBlockEntity node, NodeRemovalReason reason) {
-        boolean hadNode = this.nodes.get(node.getNodeType()).remove(node);
-        if (!hadNode) {
+        boolean hadNode = this.nodes.remove(node);
+        // a node that got replaced by a new instance at its position already left the index, but not the graph
+        boolean inGraph = this.graph != null && this.graph.containsVertex(node);
+        if (!hadNode && !inGraph) {
             return false;
         }
 
-        if (this.graph != null) {
+        if (inGraph) {
             // delete the now removed node from this networks graph
             removeAndForget(node);
         }
 
         node.forgetAll();
-        removePriorityNode(node, node.getPriority());
 
         return true;
     }
@@ -217,60 +207,35 @@ public class PastelNetwork {
             target.forget(node);
         }
         this.graph.removeVertex(node);
-    }
-
-    private void removePriorityNode(PastelNodeBlockEntity node, Priority priority) {
-        switch (priority) {
-            case MODERATE -> priorityNodes.remove(node);
-            case HIGH -> highPriorityNodes.remove(node);
-        }
+        this.graphRevision++;
     }
 
     public boolean hasNodes() {
-        for (Set<PastelNodeBlockEntity> nodeList : this.nodes.values()) {
-            if (!nodeList.isEmpty()) {
-                return true;
-            }
-        }
-        return false;
+        return !this.nodes.isEmpty();
     }
 
-    public Set<PastelNodeBlockEntity> getNodes(PastelNodeType type) {
+    public Collection<PastelNodeBlockEntity> getNodes(PastelNodeType type) {
         return getNodes(type, Priority.GENERIC);
     }
 
-    public Set<PastelNodeBlockEntity> getNodes(PastelNodeType type, Priority priority) {
-        var nodeType = this.nodes.get(type);
-
-        if (priority == Priority.MODERATE) {
-            return nodeType.stream().filter(priorityNodes::contains).collect(Collectors.toSet());
-        }
-
-        if (priority == Priority.HIGH) {
-            return nodeType.stream().filter(highPriorityNodes::contains).collect(Collectors.toSet());
-        }
-
-        return nodeType;
+    /**
+     * Generic priority returns all nodes of that type, the others only the nodes with exactly that priority.
+     * The returned collection is a live view into the network's node index.
+     */
+    public Collection<PastelNodeBlockEntity> getNodes(PastelNodeType type, Priority priority) {
+        return this.nodes.get(type, priority);
     }
 
-    public Map<PastelNodeType, Set<PastelNodeBlockEntity>> getNodes() {
+    public PastelNodeIndex getNodes() {
         return this.nodes;
     }
 
     public int getNodeCount() {
-        int nodes = 0;
-        for (Set<PastelNodeBlockEntity> nodeList : this.nodes.values()) {
-            nodes += nodeList.size();
-        }
-        return nodes;
+        return this.nodes.size();
     }
 
-    public List<PastelNodeBlockEntity> getAllNodes() {
-        List<PastelNodeBlockEntity> nodes = new ArrayList<>();
-        for (Map.Entry<PastelNodeType, Set<PastelNodeBlockEntity>> nodeList : this.nodes.entrySet()) {
-            nodes.addAll(this.nodes.get(nodeList.getKey()));
-        }
-        return nodes;
+    public Collection<PastelNodeBlockEntity> getAllNodes() {
+        return this.nodes.all();
     }
 
     public boolean canConnect(PastelNodeBlockEntity newNode) {
@@ -278,11 +243,9 @@ public class PastelNetwork {
             return false;
         }
 
-        for (Set<PastelNodeBlockEntity> nodeList : this.nodes.values()) {
-            for (PastelNodeBlockEntity currentNode : nodeList) {
-                if (currentNode.canConnect(newNode)) {
-                    return true;
-                }
+        for (PastelNodeBlockEntity currentNode : this.nodes.all()) {
+            if (currentNode.canConnect(newNode)) {
+                return true;
             }
         }
         return false;
@@ -340,6 +303,11 @@ public class PastelNetwork {
     }
 
     public PastelNodeBlockEntity getNodeAt(BlockPos blockPos) {
+        PastelNodeBlockEntity indexedNode = this.nodes.get(blockPos);
+        if (indexedNode != null) {
+            return indexedNode;
+        }
+
         BlockEntity blockEntity = this.getWorld().getBlockEntity(blockPos);
         if (blockEntity instanceof PastelNodeBlockEntity pastelNodeBlockEntity) {
             return pastelNodeBlockEntity;
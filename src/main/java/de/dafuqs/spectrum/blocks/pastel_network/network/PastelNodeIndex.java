@@ -0,0 +1,144 @@
+package de.dafuqs.spectrum.blocks.pastel_network.network;
+
+import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.util.math.*;
+import org.jetbrains.annotations.*;
+
+/**
+ * All nodes of a network, keyed by their packed position.
+ * Nodes are additionally sorted into buckets per node type and priority
+ * that are kept up to date on insertion and removal, so lookups during
+ * transfer ticks neither allocate nor have to filter anything.
+ * <p>
+ * The {@link PastelNetwork.Priority#GENERIC} bucket of a type contains all nodes of that type,
+ * the other buckets only the nodes with exactly that priority.
+ */
+public class PastelNodeIndex {
+
+	private static final int TYPE_COUNT = PastelNodeType.values().length;
+	private static final int PRIORITY_COUNT = PastelNetwork.Priority.values().length;
+
+	private final Long2ObjectOpenHashMap<PastelNodeBlockEntity> nodes = new Long2ObjectOpenHashMap<>();
+	// the priority each node was indexed with, to find it again even if the node already changed it
+	private final Long2ObjectOpenHashMap<PastelNetwork.Priority> indexedPriorities = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectLinkedOpenHashMap<PastelNodeBlockEntity>[] buckets;
+
+	@SuppressWarnings("unchecked")
+	public PastelNodeIndex() {
+		this.buckets = new Long2ObjectLinkedOpenHashMap[TYPE_COUNT * PRIORITY_COUNT];
+		for (int i = 0; i < this.buckets.length; i++) {
+			this.buckets[i] = new Long2ObjectLinkedOpenHashMap<>();
+		}
+	}
+
+	private Long2ObjectLinkedOpenHashMap<PastelNodeBlockEntity> getBucket(PastelNodeType type, PastelNetwork.Priority priority) {
+		return this.buckets[type.ordinal() * PRIORITY_COUNT + priority.ordinal()];
+	}
+
+	/**
+	 * Another node instance at the same position, like one that got removed or unloaded
+	 * without leaving the network, gets replaced by the new one
+	 *
+	 * @return false if the node already was indexed
+	 */
+	public boolean add(PastelNodeBlockEntity node) {
+		long pos = node.getPos().asLong();
+		PastelNodeBlockEntity indexedNode = this.nodes.get(pos);
+		if (indexedNode == node) {
+			return false;
+		} else if (indexedNode != null) {
+			removeIndexed(pos, indexedNode);
+		}
+
+		PastelNodeType type = node.getNodeType();
+		PastelNetwork.Priority priority = node.getPriority();
+		this.nodes.put(pos, node);
+		this.indexedPriorities.put(pos, priority);
+		getBucket(type, PastelNetwork.Priority.GENERIC).put(pos, node);
+		if (priority != PastelNetwork.Priority.GENERIC) {
+			getBucket(type, priority).put(pos, node);
+		}
+		return true;
+	}
+
+	/**
+	 * @return false if the node was not indexed. A different node at its position stays
+	 */
+	public boolean remove(PastelNodeBlockEntity node) {
+		long pos = node.getPos().asLong();
+		if (this.nodes.get(pos) != node) {
+			return false;
+		}
+
+		removeIndexed(pos, node);
+		return true;
+	}
+
+	private void removeIndexed(long pos, PastelNodeBlockEntity indexedNode) {
+		this.nodes.remove(pos);
+		PastelNodeType type = indexedNode.getNodeType();
+		PastelNetwork.Priority priority = this.indexedPriorities.remove(pos);
+		getBucket(type, PastelNetwork.Priority.GENERIC).remove(pos);
+		if (priority != null && priority != PastelNetwork.Priority.GENERIC) {
+			getBucket(type, priority).remove(pos);
+		}
+	}
+
+	public void updatePriority(PastelNodeBlockEntity node) {
+		long pos = node.getPos().asLong();
+		PastelNodeBlockEntity indexedNode = this.nodes.get(pos);
+		if (indexedNode != node) {
+			return;
+		}
+
+		PastelNetwork.Priority oldPriority = this.indexedPriorities.get(pos);
+		PastelNetwork.Priority newPriority = node.getPriority();
+		if (oldPriority == newPriority) {
+			return;
+		}
+
+		PastelNodeType type = indexedNode.getNodeType();
+		if (oldPriority != null && oldPriority != PastelNetwork.Priority.GENERIC) {
+			getBucket(type, oldPriority).remove(pos);
+		}
+		if (newPriority != PastelNetwork.Priority.GENERIC) {
+			getBucket(type, newPriority).put(pos, indexedNode);
+		}
+		this.indexedPriorities.put(pos, newPriority);
+	}
+
+	public @Nullable PastelNodeBlockEntity get(long pos) {
+		return this.nodes.get(pos);
+	}
+
+	public @Nullable PastelNodeBlockEntity get(BlockPos pos) {
+		return this.nodes.get(pos.asLong());
+	}
+
+	public boolean contains(PastelNodeBlockEntity node) {
+		return this.nodes.get(node.getPos().asLong()) == node;
+	}
+
+	public ObjectCollection<PastelNodeBlockEntity> get(PastelNodeType type, PastelNetwork.Priority priority) {
+		return getBucket(type, priority).values();
+	}
+
+	public ObjectCollection<PastelNodeBlockEntity> all() {
+		return this.nodes.values();
+	}
+
+	public int size() {
+		return this.nodes.size();
+	}
+
+	public int size(PastelNodeType type) {
+		return getBucket(type, PastelNetwork.Priority.GENERIC).size();
+	}
+
+	public boolean isEmpty() {
+		return this.nodes.isEmpty();
+	}
+
+}
@@ -0,0 +1,196 @@
+package de.dafuqs.spectrum.blocks.pastel_network.network;
+
+import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
+import it.unimi.dsi.fastutil.objects.*;
+import org.jetbrains.annotations.*;
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Caches one shortest path tree per source node.
+ * Instead of dropping everything on a topology change, only the trees
+ * that the changed edge or node can actually affect get thrown away
+ * and are recomputed lazily on their next lookup.
+ * <p>
+ * Each network is a single connected component (disconnected parts get split off
+ * into their own network), so trees never need to span multiple components.
+ * Pastel graphs are unweighted, meaning a plain BFS tree is already a shortest path tree.
+ */
+public class PastelRoutingEngine {
+
+	private final Map<PastelNodeBlockEntity, RoutingTree> trees = new HashMap<>();
+	private @Nullable Graph<PastelNodeBlockEntity, DefaultEdge> graph;
+
+	private long hits;
+	private long misses;
+	private long rebuilds;
+
+	public @Nullable GraphPath<PastelNodeBlockEntity, DefaultEdge> getPath(Graph<PastelNodeBlockEntity, DefaultEdge> graph, PastelNodeBlockEntity source, PastelNodeBlockEntity destination) {
+		if (this.graph != graph) {
+			// the network rebuilt its graph from scratch
+			invalidateAll();
+			this.graph = graph;
+		}
+
+		RoutingTree tree = this.trees.get(source);
+		if (tree == null) {
+			this.misses++;
+			tree = new RoutingTree(graph, source);
+			this.trees.put(source, tree);
+		} else {
+			this.hits++;
+		}
+		return tree.getPath(destination);
+	}
+
+	/**
+	 * An added edge can only shorten paths if its two ends have
+	 * a distance from the source that differs by more than one
+	 * (being unreachable counts as being infinitely far away)
+	 */
+	public void onEdgeAdded(PastelNodeBlockEntity node, PastelNodeBlockEntity otherNode) {
+		invalidateIf(tree -> {
+			int distance = tree.getDistance(node);
+			int otherDistance = tree.getDistance(otherNode);
+			if (distance == RoutingTree.UNREACHABLE && otherDistance == RoutingTree.UNREACHABLE) {
+				return false;
+			}
+			return distance == RoutingTree.UNREACHABLE || otherDistance == RoutingTree.UNREACHABLE || Math.abs(distance - otherDistance) > 1;
+		});
+	}
+
+	/**
+	 * A removed edge only matters to trees that routed along it
+	 */
+	public void onEdgeRemoved(PastelNodeBlockEntity node, PastelNodeBlockEntity otherNode) {
+		invalidateIf(tree -> tree.usesEdge(node, otherNode));
+	}
+
+	/**
+	 * New nodes get connected via {@link #onEdgeAdded}, so they
+	 * only need handling if they arrived together with their edges
+	 */
+	public void onNodeAdded(Graph<PastelNodeBlockEntity, DefaultEdge> graph, PastelNodeBlockEntity node) {
+		if (this.graph != graph || !graph.containsVertex(node)) {
+			return;
+		}
+		for (DefaultEdge edge : graph.edgesOf(node)) {
+			onEdgeAdded(graph.getEdgeSource(edge), graph.getEdgeTarget(edge));
+		}
+	}
+
+	/**
+	 * A removed node only matters to trees that could reach it
+	 */
+	public void onNodeRemoved(PastelNodeBlockEntity node) {
+		invalidateIf(tree -> tree.source.equals(node) || tree.getDistance(node) != RoutingTree.UNREACHABLE);
+	}
+
+	public void invalidateAll() {
+		this.rebuilds += this.trees.size();
+		this.trees.clear();
+	}
+
+	private void invalidateIf(Predicate<RoutingTree> predicate) {
+		Iterator<RoutingTree> iterator = this.trees.values().iterator();
+		while (iterator.hasNext()) {
+			if (predicate.test(iterator.next())) {
+				iterator.remove();
+				this.rebuilds++;
+			}
+		}
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * The amount of cached trees that were thrown away because of topology changes
+	 */
+	public long getRebuilds() {
+		return this.rebuilds;
+	}
+
+	public int getCachedTreeCount() {
+		return this.trees.size();
+	}
+
+	public String getDebugText() {
+		return "Trees: " + this.trees.size() + " - Hits: " + this.hits + " - Misses: " + this.misses + " - Rebuilds: " + this.rebuilds;
+	}
+
+	private static class RoutingTree {
+
+		private static final int UNREACHABLE = -1;
+
+		private final Graph<PastelNodeBlockEntity, DefaultEdge> graph;
+		private final PastelNodeBlockEntity source;
+		private final Object2IntMap<PastelNodeBlockEntity> distances = new Object2IntOpenHashMap<>();
+		private final Map<PastelNodeBlockEntity, PastelNodeBlockEntity> predecessors = new HashMap<>();
+		private final Map<PastelNodeBlockEntity, GraphPath<PastelNodeBlockEntity, DefaultEdge>> paths = new HashMap<>();
+
+		private RoutingTree(Graph<PastelNodeBlockEntity, DefaultEdge> graph, PastelNodeBlockEntity source) {
+			this.graph = graph;
+			this.source = source;
+			this.distances.defaultReturnValue(UNREACHABLE);
+
+			if (!graph.containsVertex(source)) {
+				return;
+			}
+
+			ArrayDeque<PastelNodeBlockEntity> queue = new ArrayDeque<>();
+			this.distances.put(source, 0);
+			queue.add(source);
+			while (!queue.isEmpty()) {
+				PastelNodeBlockEntity current = queue.poll();
+				int nextDistance = this.distances.getInt(current) + 1;
+				for (DefaultEdge edge : graph.edgesOf(current)) {
+					PastelNodeBlockEntity neighbor = Graphs.getOppositeVertex(graph, edge, current);
+					if (!this.distances.containsKey(neighbor)) {
+						this.distances.put(neighbor, nextDistance);
+						this.predecessors.put(neighbor, current);
+						queue.add(neighbor);
+					}
+				}
+			}
+		}
+
+		private int getDistance(PastelNodeBlockEntity node) {
+			return this.distances.getInt(node);
+		}
+
+		private boolean usesEdge(PastelNodeBlockEntity node, PastelNodeBlockEntity otherNode) {
+			return otherNode.equals(this.predecessors.get(node)) || node.equals(this.predecessors.get(otherNode));
+		}
+
+		private @Nullable GraphPath<PastelNodeBlockEntity, DefaultEdge> getPath(PastelNodeBlockEntity destination) {
+			int distance = getDistance(destination);
+			if (distance == UNREACHABLE) {
+				return null;
+			}
+
+			GraphPath<PastelNodeBlockEntity, DefaultEdge> path = this.paths.get(destination);
+			if (path == null) {
+				LinkedList<PastelNodeBlockEntity> vertices = new LinkedList<>();
+				PastelNodeBlockEntity current = destination;
+				while (current != null) {
+					vertices.addFirst(current);
+					current = this.predecessors.get(current);
+				}
+				path = new GraphWalk<>(this.graph, new ArrayList<>(vertices), distance);
+				this.paths.put(destination, path);
+			}
+			return path;
+		}
+
+	}
+
+}
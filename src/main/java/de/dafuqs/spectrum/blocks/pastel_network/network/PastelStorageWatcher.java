@@ -0,0 +1,67 @@
+package de.dafuqs.spectrum.blocks.pastel_network.network;
+
+import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.registry.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+
+import java.util.*;
+
+/**
+ * Lets pastel nodes know when the block entity of the storage they are attached to got marked dirty,
+ * so the {@link PastelTransferScheduler} can wake them up instead of rescanning idle storages
+ */
+public class PastelStorageWatcher {
+
+	private static final Map<RegistryKey<World>, Long2ObjectMap<List<PastelNodeBlockEntity>>> WATCHED_STORAGES = new HashMap<>();
+
+	public static void watch(PastelNodeBlockEntity node, BlockPos storagePos) {
+		List<PastelNodeBlockEntity> nodes = WATCHED_STORAGES
+				.computeIfAbsent(node.getWorld().getRegistryKey(), key -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(storagePos.asLong(), pos -> new ArrayList<>(1));
+		if (!nodes.contains(node)) {
+			nodes.add(node);
+		}
+	}
+
+	public static void unwatch(PastelNodeBlockEntity node, BlockPos storagePos) {
+		Long2ObjectMap<List<PastelNodeBlockEntity>> storages = WATCHED_STORAGES.get(node.getWorld().getRegistryKey());
+		if (storages == null) {
+			return;
+		}
+
+		long key = storagePos.asLong();
+		List<PastelNodeBlockEntity> nodes = storages.get(key);
+		if (nodes != null) {
+			nodes.remove(node);
+			if (nodes.isEmpty()) {
+				storages.remove(key);
+			}
+		}
+	}
+
+	public static void onBlockEntityChanged(World world, BlockPos pos) {
+		if (WATCHED_STORAGES.isEmpty()) {
+			return;
+		}
+
+		Long2ObjectMap<List<PastelNodeBlockEntity>> storages = WATCHED_STORAGES.get(world.getRegistryKey());
+		if (storages == null) {
+			return;
+		}
+
+		List<PastelNodeBlockEntity> nodes = storages.get(pos.asLong());
+		if (nodes != null) {
+			//noinspection ForLoopReplaceableByForEach
+			for (int i = 0; i < nodes.size(); i++) {
+				nodes.get(i).markTransferStateDirty();
+			}
+		}
+	}
+
+	public static void clear() {
+		WATCHED_STORAGES.clear();
+	}
+
+}
@@ -0,0 +1,117 @@
+package de.dafuqs.spectrum.blocks.pastel_network.network;
+
+import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
+import it.unimi.dsi.fastutil.objects.*;
+
+import java.util.*;
+
+/**
+ * Keeps track of which node pairs of a network are worth evaluating in a transfer tick.
+ * <p>
+ * Every change that can make a transfer possible (storage contents, filters, upgrades,
+ * items underway, topology) stamps the node with a new revision. When a source node
+ * finished evaluating all destinations of a type without any of them being blocked,
+ * the revision at that point is remembered. From then on only pairs where one
+ * of the two nodes has a newer revision get evaluated again.
+ * <p>
+ * Storages that do not report their changes via a block entity (like double chests
+ * being modified via their other half) are caught by re-evaluating idle pairs every
+ * {@link #IDLE_RECHECK_TICKS} ticks.
+ */
+public class PastelTransferScheduler {
+
+	public static final int IDLE_RECHECK_TICKS = 100;
+	public static final long NOT_IDLE = -1;
+
+	private static final int TYPE_COUNT = PastelNodeType.values().length;
+
+	private long revision = 0;
+	private final Object2LongMap<PastelNodeBlockEntity> nodeRevisions = new Object2LongOpenHashMap<>();
+	private final long[] typeRevisions = new long[TYPE_COUNT];
+	// per source node: the revisions it was idle at for each destination type, followed by the ticks it became idle at
+	private final Map<PastelNodeBlockEntity, long[]> idleStates = new HashMap<>();
+
+	public void markDirty(PastelNodeBlockEntity node) {
+		this.revision++;
+		this.nodeRevisions.put(node, this.revision);
+		this.typeRevisions[node.getNodeType().ordinal()] = this.revision;
+	}
+
+	public void forget(PastelNodeBlockEntity node) {
+		this.revision++;
+		this.nodeRevisions.removeLong(node);
+		this.idleStates.remove(node);
+		this.typeRevisions[node.getNodeType().ordinal()] = this.revision;
+	}
+
+	public void invalidateAll() {
+		this.idleStates.clear();
+	}
+
+	public long getRevision() {
+		return this.revision;
+	}
+
+	/**
+	 * @return the revision the source was idle at for that destination type, or {@link #NOT_IDLE} if it needs a full evaluation
+	 */
+	public long getIdleRevision(PastelNodeBlockEntity source, PastelNodeType destinationType, long time) {
+		long[] idleState = this.idleStates.get(source);
+		if (idleState == null) {
+			return NOT_IDLE;
+		}
+
+		int index = destinationType.ordinal();
+		long idleRevision = idleState[index];
+		if (idleRevision == NOT_IDLE || time - idleState[TYPE_COUNT + index] >= IDLE_RECHECK_TICKS) {
+			return NOT_IDLE;
+		}
+		return idleRevision;
+	}
+
+	/**
+	 * Whether the source can skip all destinations of that type altogether
+	 */
+	public boolean isIdle(PastelNodeBlockEntity source, PastelNodeType destinationType, long time) {
+		long idleRevision = getIdleRevision(source, destinationType, time);
+		return idleRevision != NOT_IDLE
+				&& this.nodeRevisions.getLong(source) <= idleRevision
+				&& this.typeRevisions[destinationType.ordinal()] <= idleRevision;
+	}
+
+	public boolean needsEvaluation(PastelNodeBlockEntity source, PastelNodeBlockEntity destination, long idleRevision) {
+		return idleRevision == NOT_IDLE
+				|| this.nodeRevisions.getLong(source) > idleRevision
+				|| this.nodeRevisions.getLong(destination) > idleRevision;
+	}
+
+	/**
+	 * @param revision the revision taken before evaluating, so changes made during the evaluation itself get picked up next time
+	 */
+	public void markIdle(PastelNodeBlockEntity source, PastelNodeType destinationType, long revision, long time) {
+		long[] idleState = this.idleStates.computeIfAbsent(source, node -> {
+			long[] state = new long[TYPE_COUNT * 2];
+			Arrays.fill(state, 0, TYPE_COUNT, NOT_IDLE);
+			return state;
+		});
+
+		int index = destinationType.ordinal();
+		if (idleState[index] == NOT_IDLE || time - idleState[TYPE_COUNT + index] >= IDLE_RECHECK_TICKS) {
+			idleState[TYPE_COUNT + index] = time;
+		}
+		idleState[index] = revision;
+	}
+
+	public String getDebugText() {
+		int idleCount = 0;
+		for (long[] idleState : this.idleStates.values()) {
+			for (int i = 0; i < TYPE_COUNT; i++) {
+				if (idleState[i] != NOT_IDLE) {
+					idleCount++;
+				}
+			}
+		}
+		return "Revision: " + this.revision + " - Idle: " + idleCount;
+	}
+
+}
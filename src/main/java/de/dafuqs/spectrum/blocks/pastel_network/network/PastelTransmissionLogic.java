@@ -8,8 +8,6 @@ import net.fabricmc.fabric.api.transfer.v1.transaction.*;
 import net.minecraft.util.math.*;
 import org.jetbrains.annotations.*;
 import org.jgrapht.*;
-import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
@@ -28,8 +26,8 @@ public class PastelTransmissionLogic {
 	public static final int DEFAULT_TRANSFER_TICKS_PER_NODE = 30;
 	private final ServerPastelNetwork network;
 	
-	private DijkstraShortestPath<PastelNodeBlockEntity, DefaultEdge> dijkstra;
-	private Map<PastelNodeBlockEntity, Map<PastelNodeBlockEntity, GraphPath<PastelNodeBlockEntity, DefaultEdge>>> pathCache = new HashMap<>();
+	private final PastelRoutingEngine routingEngine = new PastelRoutingEngine();
+	private final PastelTransferScheduler transferScheduler = new PastelTransferScheduler();
 	
 	
 	public PastelTransmissionLogic(ServerPastelNetwork network) {
@@ -37,35 +35,20 @@ public class PastelTransmissionLogic {
 	}
 	
 	public void invalidateCache() {
-		this.dijkstra = null;
-		this.pathCache = new HashMap<>();
+		this.routingEngine.invalidateAll();
+		this.transferScheduler.invalidateAll();
+	}
+	
+	public PastelRoutingEngine getRoutingEngine() {
+		return this.routingEngine;
+	}
+	
+	public PastelTransferScheduler getTransferScheduler() {
+		return this.transferScheduler;
 	}
 	
 	public @Nullable GraphPath<PastelNodeBlockEntity, DefaultEdge> getPath(Graph<PastelNodeBlockEntity, DefaultEdge> graph, PastelNodeBlockEntity source, PastelNodeBlockEntity destination) {
-		if (this.dijkstra == null) {
-			this.dijkstra = new DijkstraShortestPath<>(graph);
-		}
-		
-		// cache hit?
-		Map<PastelNodeBlockEntity, GraphPath<PastelNodeBlockEntity, DefaultEdge>> e = this.pathCache.getOrDefault(source, null);
-		if (e != null) {
-			if (e.containsKey(destination)) {
-				return e.get(destination);
-			}
-		}
-		
-		// calculate and cache
-		ShortestPathAlgorithm.SingleSourcePaths<PastelNodeBlockEntity, DefaultEdge> paths = this.dijkstra.getPaths(source);
-		GraphPath<PastelNodeBlockEntity, DefaultEdge> path = paths.getPath(destination);
-		if (this.pathCache.containsKey(source)) {
-			this.pathCache.get(source).put(destination, path);
-		} else {
-			Map<PastelNodeBlockEntity, GraphPath<PastelNodeBlockEntity, DefaultEdge>> newMap = new HashMap<>();
-			newMap.put(destination, path);
-			this.pathCache.put(source, newMap);
-		}
-		
-		return path;
+		return this.routingEngine.getPath(graph, source, destination);
 	}
 	
 	public void tick(PastelNetwork.Priority priority) {
@@ -82,21 +65,43 @@ public class PastelTransmissionLogic {
 	}
 	
 	private void transferBetween(PastelNodeType sourceType, PastelNodeType destinationType, TransferMode transferMode, PastelNetwork.Priority priority) {
+		long time = this.network.getWorld().getTime();
 		for (PastelNodeBlockEntity sourceNode : this.network.getNodes(sourceType, priority)) {
 			if (!sourceNode.canTransfer()) {
 				continue;
 			}
 			
+			// nothing changed since the last time this source did not find anything to transfer
+			if (this.transferScheduler.isIdle(sourceNode, destinationType, time)) {
+				continue;
+			}
+			
+			long revision = this.transferScheduler.getRevision();
 			Storage<ItemVariant> sourceStorage = sourceNode.getConnectedStorage();
 			if (sourceStorage != null && sourceStorage.supportsExtraction()) {
-				tryTransferToType(sourceNode, sourceStorage, destinationType, transferMode);
+				if (tryTransferToType(sourceNode, sourceStorage, destinationType, transferMode, time)) {
+					this.transferScheduler.markIdle(sourceNode, destinationType, revision, time);
+				}
+			} else {
+				this.transferScheduler.markIdle(sourceNode, destinationType, revision, time);
 			}
 		}
 	}
 	
-	private void tryTransferToType(PastelNodeBlockEntity sourceNode, Storage<ItemVariant> sourceStorage, PastelNodeType type, TransferMode transferMode) {
+	/**
+	 * @return if every destination got evaluated, meaning the source can idle until something changes
+	 */
+	private boolean tryTransferToType(PastelNodeBlockEntity sourceNode, Storage<ItemVariant> sourceStorage, PastelNodeType type, TransferMode transferMode, long time) {
+		long idleRevision = this.transferScheduler.getIdleRevision(sourceNode, type, time);
+		boolean evaluatedAll = true;
+		
 		for (PastelNodeBlockEntity destinationNode : this.network.getNodes(type, PastelNetwork.Priority.GENERIC)) {
 			if (!destinationNode.canTransfer()) {
+				evaluatedAll = false;
+				continue;
+			}
+			
+			if (!this.transferScheduler.needsEvaluation(sourceNode, destinationNode, idleRevision)) {
 				continue;
 			}
 			
@@ -104,13 +109,19 @@ public class PastelTransmissionLogic {
 			if (destinationStorage != null && destinationStorage.supportsInsertion()) {
 				boolean success = transferBetween(sourceNode, sourceStorage, destinationNode, destinationStorage, transferMode);
 				if (success && transferMode != TransferMode.PULL) {
-					return;
+					return false;
 				}
 			}
 		}
+		return evaluatedAll;
 	}
 	
 	private boolean transferBetween(PastelNodeBlockEntity sourceNode, Storage<ItemVariant> sourceStorage, PastelNodeBlockEntity destinationNode, Storage<ItemVariant> destinationStorage, TransferMode transferMode) {
+		// no need to scan the source storage if nothing could pass both filters
+		if (!sourceNode.canFiltersOverlap(destinationNode)) {
+			return false;
+		}
+		
 		Predicate<ItemVariant> filter = sourceNode.getTransferFilterTo(destinationNode);
 		
 		try (Transaction transaction = Transaction.openOuter()) {
@@ -17,8 +17,11 @@ public class ServerPastelNetwork extends PastelNetwork {
 	// new transfers are checked for every 10 ticks
 	private final TickLooper transferLooper = new TickLooper(10);
 
-	protected final SchedulerMap<PastelTransmission> transmissions = new SchedulerMap<>();
+	protected final DueTickScheduler<PastelTransmission> transmissions = new DueTickScheduler<>();
 	protected final PastelTransmissionLogic transmissionLogic;
+	// if the persisted state of this network changed since it was last saved
+	// the transfer looper is deliberately not tracked: losing its progress is harmless
+	private boolean dirty = true;
 
 	public ServerPastelNetwork(World world, @Nullable UUID uuid) {
 		super(world, uuid);
@@ -28,37 +31,73 @@ public class ServerPastelNetwork extends PastelNetwork {
 	@Override
 	public void incorporate(PastelNetwork networkToIncorporate, PastelNodeBlockEntity node, PastelNodeBlockEntity otherNode) {
         super.incorporate(networkToIncorporate, node, otherNode);
+		// the graph gets rebuilt from scratch
 		this.transmissionLogic.invalidateCache();
 	}
 	
+	@Override
+	public void addNode(PastelNodeBlockEntity node) {
+		super.addNode(node);
+		getTransferScheduler().markDirty(node);
+	}
+	
 	@Override
 	public void addNodeAndLoadMemory(PastelNodeBlockEntity node) {
 		super.addNodeAndLoadMemory(node);
-		this.transmissionLogic.invalidateCache();
+		getTransferScheduler().markDirty(node);
+		if (this.graph != null) {
+			this.transmissionLogic.getRoutingEngine().onNodeAdded(this.graph, node);
+		}
 	}
 	
 	@Override
 	public boolean removeNode(PastelNodeBlockEntity node, NodeRemovalReason reason) {
 		boolean result = super.removeNode(node, reason);
-		this.transmissionLogic.invalidateCache();
+		if (result) {
+			this.transmissionLogic.getRoutingEngine().onNodeRemoved(node);
+			getTransferScheduler().forget(node);
+		}
 		return result;
 	}
 
 	@Override
 	public void addAndRememberEdge(PastelNodeBlockEntity newNode, PastelNodeBlockEntity parent) {
 		super.addAndRememberEdge(newNode, parent);
-		this.transmissionLogic.invalidateCache();
+		this.transmissionLogic.getRoutingEngine().onEdgeAdded(newNode, parent);
+		// new paths might have opened up
+		getTransferScheduler().markDirty(newNode);
+		getTransferScheduler().markDirty(parent);
 	}
 
 	@Override
 	public void removeAndForgetEdge(PastelNodeBlockEntity node, PastelNodeBlockEntity parent) {
 		super.removeAndForgetEdge(node, parent);
-		this.transmissionLogic.invalidateCache();
+		this.transmissionLogic.getRoutingEngine().onEdgeRemoved(node, parent);
 	}
 
+	public PastelTransferScheduler getTransferScheduler() {
+		return this.transmissionLogic.getTransferScheduler();
+	}
+	
+	public boolean isDirty() {
+		return this.dirty;
+	}
+	
+	public void markDirty() {
+		this.dirty = true;
+	}
+	
+	public void clearDirty() {
+		this.dirty = false;
+	}
+	
 	@Override
 	public void tick() {
+		int transmissionCount = this.transmissions.size();
 		this.transmissions.tick();
+		if (this.transmissions.size() != transmissionCount) {
+			markDirty();
+		}
 		var priority = Priority.GENERIC;
 
 		if (transferLooper.getTick() % 5 == 0) {
@@ -87,9 +126,8 @@ public class ServerPastelNetwork extends PastelNetwork {
 		List<PastelNodeBlockEntity> nodeSync = new ArrayList<>();
 
 
-		for (Map.Entry<PastelTransmission, Integer> transPair : transmissions) {
-			var transmission = transPair.getKey();
-			var remainingTravelTime = transPair.getValue();
+		for (PastelTransmission transmission : transmissions) {
+			var remainingTravelTime = transmissions.get(transmission);
 			var nodes = transmission.getNodePositions();
 
 			if (nodes.isEmpty())
@@ -99,9 +137,9 @@ public class ServerPastelNetwork extends PastelNetwork {
 			double progress = travelTime - remainingTravelTime;
 
 			if (progress != 0 && progress % transmission.getVertexTime() == 0) {
-				var node = world.getBlockEntity(nodes.get((int) Math.round((nodes.size() - 1) * progress / travelTime)));
+				var pastelNode = getNodeAt(nodes.get((int) Math.round((nodes.size() - 1) * progress / travelTime)));
 
-				if (!(node instanceof PastelNodeBlockEntity pastelNode))
+				if (pastelNode == null)
 					continue;
 
 				nodeSync.add(pastelNode);
@@ -114,10 +152,16 @@ public class ServerPastelNetwork extends PastelNetwork {
 			SpectrumS2CPacketSender.sendPastelNodeStatusUpdate(nodeSync, false);
 	}
 	
+	@Override
+	public String getNodeDebugText() {
+		return super.getNodeDebugText() + " - " + this.transmissionLogic.getRoutingEngine().getDebugText() + " - " + getTransferScheduler().getDebugText();
+	}
+	
 	@Override
 	public void addTransmission(PastelTransmission transmission, int travelTime) {
 		transmission.setNetwork(this);
 		this.transmissions.put(transmission, travelTime);
+		markDirty();
 	}
 	
 	public NbtCompound toNbt() {
@@ -127,10 +171,10 @@ public class ServerPastelNetwork extends PastelNetwork {
 		compound.put("Looper", this.transferLooper.toNbt());
 		
 		NbtList transmissionList = new NbtList();
-        for (Map.Entry<PastelTransmission, Integer> transmission : this.transmissions) {
+        for (PastelTransmission transmission : this.transmissions) {
             NbtCompound transmissionCompound = new NbtCompound();
-            transmissionCompound.putInt("Delay", transmission.getValue());
-            transmissionCompound.put("Transmission", transmission.getKey().toNbt());
+            transmissionCompound.putInt("Delay", this.transmissions.get(transmission));
+            transmissionCompound.put("Transmission", transmission.toNbt());
             transmissionList.add(transmissionCompound);
         }
         compound.put("Transmissions", transmissionList);
@@ -12,23 +12,35 @@ import java.util.*;
 
 // Persisted together with the overworld
 // resetting the overworld will also reset all networks
+// Networks themselves are stored spread over multiple buckets, so autosaves only rewrite the buckets with changed networks
 public class ServerPastelNetworkManager extends PersistentState implements PastelNetworkManager {
 	
 	private static final String PERSISTENT_STATE_ID = "spectrum_pastel_network_manager";
+	private static final String BUCKET_STATE_ID_PREFIX = PERSISTENT_STATE_ID + "_";
+	private static final int BUCKET_COUNT = 16;
 	
 	private final List<ServerPastelNetwork> networks = new ArrayList<>();
+	private final NetworkBucket[] buckets = new NetworkBucket[BUCKET_COUNT];
 	
 	public ServerPastelNetworkManager() {
 		super();
 	}
 	
-	@Override
-	public boolean isDirty() {
-		return true;
+	public static ServerPastelNetworkManager get(ServerWorld world) {
+		PersistentStateManager persistentStateManager = world.getPersistentStateManager();
+		ServerPastelNetworkManager manager = persistentStateManager.getOrCreate(ServerPastelNetworkManager::fromNbt, ServerPastelNetworkManager::new, PERSISTENT_STATE_ID);
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			int bucketIndex = i;
+			manager.buckets[i] = persistentStateManager.getOrCreate(
+					nbt -> NetworkBucket.fromNbt(manager, bucketIndex, nbt),
+					() -> new NetworkBucket(manager, bucketIndex),
+					BUCKET_STATE_ID_PREFIX + i);
+		}
+		return manager;
 	}
 	
-	public static ServerPastelNetworkManager get(ServerWorld world) {
-		return world.getPersistentStateManager().getOrCreate(ServerPastelNetworkManager::fromNbt, ServerPastelNetworkManager::new, PERSISTENT_STATE_ID);
+	private static int getBucketIndex(PastelNetwork network) {
+		return Math.floorMod(network.getUUID().hashCode(), BUCKET_COUNT);
 	}
 
 	@Override
@@ -36,21 +48,21 @@ public class ServerPastelNetworkManager extends PersistentState implements Paste
 		return networks.stream().filter(n -> n.uuid.equals(uuid)).findFirst();
 	}
 
+	// the networks themselves are written by the buckets
 	@Override
 	public NbtCompound writeNbt(NbtCompound nbt) {
-		NbtList networkList = new NbtList();
-		for (ServerPastelNetwork network : this.networks) {
-			NbtCompound compound = network.toNbt();
-			networkList.add(compound);
-		}
-		nbt.put("Networks", networkList);
 		return nbt;
 	}
 	
 	public static ServerPastelNetworkManager fromNbt(NbtCompound nbt) {
 		ServerPastelNetworkManager manager = new ServerPastelNetworkManager();
-		for (NbtElement element : nbt.getList("Networks", NbtElement.COMPOUND_TYPE)) {
-			manager.networks.add(ServerPastelNetwork.fromNbt((NbtCompound) element));
+		// networks saved before they were split into buckets
+		// they get written into their buckets on the next save
+		if (nbt.contains("Networks", NbtElement.LIST_TYPE)) {
+			for (NbtElement element : nbt.getList("Networks", NbtElement.COMPOUND_TYPE)) {
+				manager.networks.add(ServerPastelNetwork.fromNbt((NbtCompound) element));
+			}
+			manager.markDirty();
 		}
 		return manager;
 	}
@@ -61,6 +73,15 @@ public class ServerPastelNetworkManager extends PersistentState implements Paste
 		return network;
 	}
 	
+	private void removeNetwork(PastelNetwork network) {
+		if (this.networks.remove(network)) {
+			NetworkBucket bucket = this.buckets[getBucketIndex(network)];
+			if (bucket != null) {
+				bucket.markDirty();
+			}
+		}
+	}
+	
 	public void tick() {
 		// using a for here instead of foreach
 		// to prevent ConcurrentModificationExceptions
@@ -127,7 +148,7 @@ public class ServerPastelNetworkManager extends PersistentState implements Paste
 		}
 
 		mainNetwork.incorporate(yieldingNetwork, node, parent);
-		this.networks.remove(yieldingNetwork);
+		removeNetwork(yieldingNetwork);
 	}
 
 	@Override
@@ -149,7 +170,7 @@ public class ServerPastelNetworkManager extends PersistentState implements Paste
 				// check if the removed node split the network into subnetworks
 				checkForNetworkSplit(network);
 			} else if (reason.destructive) {
-				this.networks.remove(network);
+				removeNetwork(network);
 			}
 		}
 	}
@@ -162,8 +183,10 @@ public class ServerPastelNetworkManager extends PersistentState implements Paste
 				Set<PastelNodeBlockEntity> disconnectedNodes = connectedSets.get(i);
 				PastelNetwork newNetwork = createNetwork(network.world, null);
 				for (PastelNodeBlockEntity disconnectedNode : disconnectedNodes) {
-					network.nodes.get(disconnectedNode.getNodeType()).remove(disconnectedNode);
+					network.nodes.remove(disconnectedNode);
 					network.getGraph().removeVertex(disconnectedNode);
+					network.transmissionLogic.getRoutingEngine().onNodeRemoved(disconnectedNode);
+					network.getTransferScheduler().forget(disconnectedNode);
 					newNetwork.addNodeAndLoadMemory(disconnectedNode);
 					disconnectedNode.setParentNetwork(newNetwork);
 				}
@@ -198,8 +221,60 @@ public class ServerPastelNetworkManager extends PersistentState implements Paste
 		
 		for (ServerPastelNetwork smallerNetwork : smallerNetworks) {
 			//biggestNetwork.incorporate(smallerNetwork);
-			this.networks.remove(smallerNetwork);
+			removeNetwork(smallerNetwork);
 		}
 	}
 	
+	/**
+	 * Stores all networks whose UUID falls into this bucket.
+	 * Only gets rewritten if one of its networks changed or got added / removed.
+	 */
+	private static class NetworkBucket extends PersistentState {
+		
+		private final ServerPastelNetworkManager manager;
+		private final int index;
+		
+		private NetworkBucket(ServerPastelNetworkManager manager, int index) {
+			this.manager = manager;
+			this.index = index;
+		}
+		
+		private static NetworkBucket fromNbt(ServerPastelNetworkManager manager, int index, NbtCompound nbt) {
+			NetworkBucket bucket = new NetworkBucket(manager, index);
+			for (NbtElement element : nbt.getList("Networks", NbtElement.COMPOUND_TYPE)) {
+				ServerPastelNetwork network = ServerPastelNetwork.fromNbt((NbtCompound) element);
+				network.clearDirty();
+				manager.networks.add(network);
+			}
+			return bucket;
+		}
+		
+		@Override
+		public boolean isDirty() {
+			if (super.isDirty()) {
+				return true;
+			}
+			for (ServerPastelNetwork network : this.manager.networks) {
+				if (network.isDirty() && getBucketIndex(network) == this.index) {
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		@Override
+		public NbtCompound writeNbt(NbtCompound nbt) {
+			NbtList networkList = new NbtList();
+			for (ServerPastelNetwork network : this.manager.networks) {
+				if (getBucketIndex(network) == this.index) {
+					networkList.add(network.toNbt());
+					network.clearDirty();
+				}
+			}
+			nbt.put("Networks", networkList);
+			return nbt;
+		}
+		
+	}
+	
 }
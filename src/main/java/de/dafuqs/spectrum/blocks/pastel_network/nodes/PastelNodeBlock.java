@@ -110,7 +110,17 @@ public class PastelNodeBlock extends SpectrumFacingBlock implements BlockEntityP
 
 	@Override
 	public BlockState getStateForNeighborUpdate(BlockState state, Direction direction, BlockState neighborState, WorldAccess world, BlockPos pos, BlockPos neighborPos) {
-		return !state.canPlaceAt(world, pos) ? Blocks.AIR.getDefaultState() : state;
+		if (!state.canPlaceAt(world, pos)) {
+			return Blocks.AIR.getDefaultState();
+		}
+		// the attached storage might have been placed or replaced
+		if (!world.isClient() && direction == state.get(FACING).getOpposite()) {
+			PastelNodeBlockEntity blockEntity = getBlockEntity(world, pos);
+			if (blockEntity != null) {
+				blockEntity.markTransferStateDirty();
+			}
+		}
+		return state;
 	}
 
 	@Override
@@ -74,6 +74,7 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 	protected Direction cachedDirection = null;
 
 	private final List<ItemStack> filterItems;
+	private @Nullable PastelNodeFilter compiledFilter;
 	float rotationTarget, crystalRotation, lastRotationTarget, heightTarget, crystalHeight, lastHeightTarget, alphaTarget, ringAlpha, lastAlphaTarget;
 	long creationStamp = -1, interpTicks, interpLength = -1, spinTicks;
 	private State state;
@@ -93,7 +94,9 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 				return null;
 			}
 			cachedDirection = state.get(PastelNodeBlock.FACING);
-			connectedStorageCache = BlockApiCache.create(ItemStorage.SIDED, (ServerWorld) world, this.getPos().offset(cachedDirection.getOpposite()));
+			BlockPos storagePos = this.getPos().offset(cachedDirection.getOpposite());
+			connectedStorageCache = BlockApiCache.create(ItemStorage.SIDED, (ServerWorld) world, storagePos);
+			PastelStorageWatcher.watch(this, storagePos);
 		}
 		return connectedStorageCache.find(cachedDirection);
 	}
@@ -240,6 +243,8 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 		if (parentNetwork != null)
 			parentNetwork.updateNodePriority(this, oldPriority);
 
+		markTransferStateDirty();
+
 		if (world != null && getCachedState().get(Properties.LIT) != lit)
 			world.setBlockState(pos, getCachedState().with(Properties.LIT, lit));
 
@@ -247,6 +252,7 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 			for (int i = getDrawnSlots(); i < filterItems.size(); i++) {
 				filterItems.set(i, ItemStack.EMPTY);
 			}
+			compiledFilter = null;
 		}
 
 		markDirty();
@@ -396,6 +402,7 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 		}
 		if (this.getNodeType().usesFilters()) {
 			FilterConfigurable.readFilterNbt(nbt, this.filterItems);
+			this.compiledFilter = null;
 		}
 		updateUpgrades();
 	}
@@ -439,6 +446,9 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 	@Override
 	public void markRemoved() {
 		super.markRemoved();
+		if (!world.isClient && connectedStorageCache != null) {
+			PastelStorageWatcher.unwatch(this, connectedStorageCache.getPos());
+		}
 		Pastel.getInstance(world.isClient).removeNode(this, NodeRemovalReason.UNLOADED);
 	}
 
@@ -478,6 +488,17 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 		this.itemCountUnderway += count;
 		this.itemCountUnderway = Math.max(0, this.itemCountUnderway);
 		this.markDirty();
+		markTransferStateDirty();
+	}
+
+	/**
+	 * Wakes this node up in its network's {@link PastelTransferScheduler}.
+	 * Call whenever something changed that could allow new transfers from or to this node.
+	 */
+	public void markTransferStateDirty() {
+		if (this.parentNetwork instanceof ServerPastelNetwork serverPastelNetwork) {
+			serverPastelNetwork.getTransferScheduler().markDirty(this);
+		}
 	}
 
 	// interaction methods
@@ -493,60 +514,44 @@ public class PastelNodeBlockEntity extends BlockEntity implements FilterConfigur
 	@Override
 	public void setFilterItem(int slot, ItemStack item) {
 		this.filterItems.set(slot, item);
+		this.compiledFilter = null;
+		markTransferStateDirty();
 	}
 
 	public Predicate<ItemVariant> getTransferFilterTo(PastelNodeBlockEntity other) {
-		if (this.getNodeType().usesFilters() && !this.hasEmptyFilter()) {
-			if (other.getNodeType().usesFilters() && !other.hasEmptyFilter()) {
+		if (this.usesNonEmptyFilter()) {
+			if (other.usesNonEmptyFilter()) {
 				// unionize both filters
-				return Predicates.and(this::filter, other::filter);
+				return Predicates.and(this.getCompiledFilter(), other.getCompiledFilter());
 			} else {
-				return this::filter;
+				return this.getCompiledFilter();
 			}
-		} else if (other.getNodeType().usesFilters() && !other.hasEmptyFilter()) {
-			return other::filter;
+		} else if (other.usesNonEmptyFilter()) {
+			return other.getCompiledFilter();
 		} else {
 			return itemVariant -> true;
 		}
 	}
 
-	private boolean filter(ItemVariant variant) {
-		return filterItems
-				.stream()
-				.anyMatch(stack -> {
-					if (LoreHelper.hasLore(stack)) {
-						if (variant.getNbt() == null)
-							return false;
-
-						for (Text text : LoreHelper.getLoreList(stack)) {
-							if (!testNBTPredicates(text.getString(), stack, variant))
-								return false;
-						}
-					}
-
-					if (!stack.hasCustomName() || !stack.isIn(SpectrumItemTags.TAG_FILTERING_ITEMS))
-						return stack.getItem() == variant.getItem();
-
-					var name = StringUtils.trim(stack.getName().getString());
-
-					// This is to allow nbt filtering without item / tag filtering.
-					if (StringUtils.equalsAnyIgnoreCase(name, "*", "any", "all", "everything", "c:*", "c:any", "c:all", "c:everything"))
-						return true;
-
-					var id = Identifier.tryParse(StringUtils.remove(name, '#')); // let's be nice and remove any pound signs for the dumb idiots
-					if (id == null)
-						return false;
-
-					var tag = SpectrumCommon.CACHED_ITEM_TAG_MAP.computeIfAbsent(id, tagId -> Registries.ITEM.streamTags()
-							.filter(t -> t.id().equals(tagId))
-							.findFirst()
-							.orElse(null));
+	/**
+	 * @return false if the filters of both nodes exclude each other, so no item could ever be transferred between them
+	 */
+	public boolean canFiltersOverlap(PastelNodeBlockEntity other) {
+		if (this.usesNonEmptyFilter() && other.usesNonEmptyFilter()) {
+			return this.getCompiledFilter().canOverlap(other.getCompiledFilter());
+		}
+		return true;
+	}
 
-					if (tag == null)
-						return false;
+	private boolean usesNonEmptyFilter() {
+		return this.getNodeType().usesFilters() && !this.hasEmptyFilter();
+	}
 
-					return variant.getItem().getRegistryEntry().isIn(tag);
-				});
+	private PastelNodeFilter getCompiledFilter() {
+		if (this.compiledFilter == null) {
+			this.compiledFilter = new PastelNodeFilter(this, this.filterItems);
+		}
+		return this.compiledFilter;
 	}
 
 	public static final String GREATER_THAN_KEYWORD = "above";
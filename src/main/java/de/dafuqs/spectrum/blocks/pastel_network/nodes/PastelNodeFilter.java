@@ -0,0 +1,144 @@
+package de.dafuqs.spectrum.blocks.pastel_network.nodes;
+
+import de.dafuqs.spectrum.helpers.*;
+import de.dafuqs.spectrum.registries.*;
+import it.unimi.dsi.fastutil.objects.*;
+import net.fabricmc.fabric.api.transfer.v1.item.*;
+import net.minecraft.item.*;
+import net.minecraft.registry.*;
+import net.minecraft.registry.tag.*;
+import net.minecraft.text.*;
+import net.minecraft.util.*;
+import org.apache.commons.lang3.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * The filter items of a {@link PastelNodeBlockEntity}, compiled into something that can be tested quickly.
+ * Plain items end up in a set, tag filters in a list of tags. Only filter items with nbt predicates
+ * in their lore still get evaluated one by one.
+ * <p>
+ * Compiled lazily and dropped whenever the filter items change.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class PastelNodeFilter implements Predicate<ItemVariant> {
+
+	private static final String[] WILDCARD_NAMES = {"*", "any", "all", "everything", "c:*", "c:any", "c:all", "c:everything"};
+
+	private final PastelNodeBlockEntity node;
+	private final Set<Item> items = new ReferenceOpenHashSet<>();
+	private final List<TagKey<Item>> tags = new ArrayList<>();
+	private final List<ItemStack> nbtFilterStacks = new ArrayList<>();
+	private boolean matchesAll = false;
+
+	public PastelNodeFilter(PastelNodeBlockEntity node, List<ItemStack> filterItems) {
+		this.node = node;
+		for (ItemStack stack : filterItems) {
+			if (stack.isEmpty()) {
+				continue;
+			}
+			if (LoreHelper.hasLore(stack)) {
+				this.nbtFilterStacks.add(stack);
+				continue;
+			}
+
+			if (!isTagFilter(stack)) {
+				this.items.add(stack.getItem());
+			} else if (isWildcard(stack)) {
+				this.matchesAll = true;
+			} else {
+				TagKey<Item> tag = getTag(stack);
+				if (tag != null) {
+					this.tags.add(tag);
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean test(ItemVariant variant) {
+		if (this.matchesAll || this.items.contains(variant.getItem())) {
+			return true;
+		}
+		if (!this.tags.isEmpty()) {
+			RegistryEntry<Item> entry = variant.getItem().getRegistryEntry();
+			for (TagKey<Item> tag : this.tags) {
+				if (entry.isIn(tag)) {
+					return true;
+				}
+			}
+		}
+		for (ItemStack stack : this.nbtFilterStacks) {
+			if (testNbtFilterStack(stack, variant)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return false if there can't be an item that passes both this and the other filter
+	 */
+	public boolean canOverlap(PastelNodeFilter other) {
+		if (!this.isItemsOnly() || !other.isItemsOnly()) {
+			return true;
+		}
+		Set<Item> smaller = this.items.size() <= other.items.size() ? this.items : other.items;
+		Set<Item> larger = smaller == this.items ? other.items : this.items;
+		for (Item item : smaller) {
+			if (larger.contains(item)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isItemsOnly() {
+		return !this.matchesAll && this.tags.isEmpty() && this.nbtFilterStacks.isEmpty();
+	}
+
+	private boolean testNbtFilterStack(ItemStack stack, ItemVariant variant) {
+		if (variant.getNbt() == null) {
+			return false;
+		}
+		for (Text text : LoreHelper.getLoreList(stack)) {
+			if (!this.node.testNBTPredicates(text.getString(), stack, variant)) {
+				return false;
+			}
+		}
+
+		if (!isTagFilter(stack)) {
+			return stack.getItem() == variant.getItem();
+		}
+		// This is to allow nbt filtering without item / tag filtering.
+		if (isWildcard(stack)) {
+			return true;
+		}
+		TagKey<Item> tag = getTag(stack);
+		return tag != null && variant.getItem().getRegistryEntry().isIn(tag);
+	}
+
+	private static boolean isTagFilter(ItemStack stack) {
+		return stack.hasCustomName() && stack.isIn(SpectrumItemTags.TAG_FILTERING_ITEMS);
+	}
+
+	private static boolean isWildcard(ItemStack stack) {
+		return StringUtils.equalsAnyIgnoreCase(getTrimmedName(stack), WILDCARD_NAMES);
+	}
+
+	private static @Nullable TagKey<Item> getTag(ItemStack stack) {
+		var id = Identifier.tryParse(StringUtils.remove(getTrimmedName(stack), '#')); // let's be nice and remove any pound signs for the dumb idiots
+		if (id == null) {
+			return null;
+		}
+		// tags that do not exist (yet) simply do not contain anything
+		return TagKey.of(RegistryKeys.ITEM, id);
+	}
+
+	private static String getTrimmedName(ItemStack stack) {
+		return StringUtils.trim(stack.getName().getString());
+	}
+
+}
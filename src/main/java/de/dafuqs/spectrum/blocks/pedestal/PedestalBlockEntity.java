@@ -4,6 +4,7 @@ import com.klikli_dev.modonomicon.api.multiblock.*;
 import de.dafuqs.spectrum.*;
 import de.dafuqs.spectrum.api.block.*;
 import de.dafuqs.spectrum.api.item.*;
+import de.dafuqs.spectrum.blocks.*;
 import de.dafuqs.spectrum.blocks.upgrade.*;
 import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.inventories.*;
@@ -11,6 +12,7 @@ import de.dafuqs.spectrum.items.magic_items.*;
 import de.dafuqs.spectrum.networking.*;
 import de.dafuqs.spectrum.particle.*;
 import de.dafuqs.spectrum.progression.*;
+import de.dafuqs.spectrum.recipe.*;
 import de.dafuqs.spectrum.recipe.pedestal.*;
 import de.dafuqs.spectrum.registries.*;
 import net.fabricmc.fabric.api.screenhandler.v1.*;
@@ -41,7 +43,7 @@ import org.jetbrains.annotations.*;
 
 import java.util.*;
 
-public class PedestalBlockEntity extends LockableContainerBlockEntity implements MultiblockCrafter, RecipeInputProvider, SidedInventory, ExtendedScreenHandlerFactory {
+public class PedestalBlockEntity extends LockableContainerBlockEntity implements MultiblockCrafter, MultiblockStateCache.Holder, RecipeInputProvider, SidedInventory, ExtendedScreenHandlerFactory {
 	
 	public static final int INVENTORY_SIZE = 16; // 9 crafting, 5 gems, 1 craftingTablet, 1 output
 	public static final int CRAFTING_TABLET_SLOT_ID = 14;
@@ -52,6 +54,10 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 	private static final int[] ACCESSIBLE_SLOTS_ADVANCED = {9, 10, 11, 12};
 	private static final int[] ACCESSIBLE_SLOTS_COMPLEX = {9, 10, 11, 12, 13};
 	
+	// dynamic recipes like explosion modification match on their own terms
+	private static final RecipeIndex<Inventory, PedestalRecipe> RECIPE_INDEX = new RecipeIndex<>(() -> SpectrumRecipeTypes.PEDESTAL, recipe ->
+			recipe.getClass() == ShapedPedestalRecipe.class || recipe.getClass() == ShapelessPedestalRecipe.class ? recipe.getIngredients() : null);
+	
 	protected final AutoCraftingInventory autoCraftingInventory;
 	protected final PropertyDelegate propertyDelegate;
 	protected UUID ownerUUID;
@@ -62,8 +68,8 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 	protected int craftingTime;
 	protected int craftingTimeTotal;
 	public @Nullable Recipe<?> currentRecipe;
-	protected PedestalRecipeTier cachedMaxPedestalTier;
-	protected long cachedMaxPedestalTierTick;
+	protected final MultiblockStateCache<PedestalStructure> structure;
+	protected long lastCompletedMultiblockTriggerTick;
 	protected UpgradeHolder upgrades;
 	protected boolean inventoryChanged;
 	
@@ -76,6 +82,7 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 			this.pedestalVariant = BuiltinPedestalVariant.BASIC_AMETHYST;
 		}
 		autoCraftingInventory = new AutoCraftingInventory(3, 3);
+		this.structure = new MultiblockStateCache<>(blockPos, 12, this::getStructure);
 		
 		this.inventory = DefaultedList.ofSize(INVENTORY_SIZE, ItemStack.EMPTY);
 		this.propertyDelegate = new PropertyDelegate() {
@@ -316,7 +323,7 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 		
 		// current recipe does not match last recipe
 		// => search valid recipe
-		PedestalRecipe pedestalRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.PEDESTAL, pedestalBlockEntity, world).orElse(null);
+		PedestalRecipe pedestalRecipe = RECIPE_INDEX.getFirstMatch(pedestalBlockEntity, world, PedestalRecipe.CRAFTING_GRID_SLOTS).orElse(null);
 		if (pedestalRecipe == null) {
 			if (SpectrumCommon.CONFIG.canPedestalCraftVanillaRecipes()) {
 				return world.getRecipeManager().getFirstMatch(RecipeType.CRAFTING, pedestalBlockEntity.autoCraftingInventory, world).orElse(null);
@@ -542,6 +549,11 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 		return nbtCompound;
 	}
 	
+	@Override
+	public MultiblockStateCache<?> getMultiblockStateCache() {
+		return this.structure;
+	}
+	
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
@@ -779,18 +791,18 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 	}
 	
 	public PedestalRecipeTier getHighestAvailableRecipeTier() {
-		if (this.getWorld().getTime() <= this.cachedMaxPedestalTierTick + 20) {
-			return cachedMaxPedestalTier;
-		} else {
-			PedestalRecipeTier pedestalTier = getPedestalTier();
-			PedestalRecipeTier structureTier = getStructureTier();
-			
-			PedestalRecipeTier denominator = PedestalRecipeTier.values()[Math.min(pedestalTier.ordinal(), structureTier.ordinal())];
-			this.cachedMaxPedestalTier = denominator;
-			this.cachedMaxPedestalTierTick = world.getTime();
-			
-			return denominator;
+		PedestalRecipeTier pedestalTier = getPedestalTier();
+		PedestalStructure structure = this.structure.get(this.world);
+		
+		// granted while the structure stands, not only when it gets validated again
+		if (!this.world.isClient && structure.multiblock() != null && this.world.getTime() >= this.lastCompletedMultiblockTriggerTick + 20) {
+			if (this.getOwnerIfOnline() instanceof ServerPlayerEntity owner) {
+				SpectrumAdvancementCriteria.COMPLETED_MULTIBLOCK.trigger(owner, structure.multiblock());
+			}
+			this.lastCompletedMultiblockTriggerTick = this.world.getTime();
 		}
+		
+		return PedestalRecipeTier.values()[Math.min(pedestalTier.ordinal(), structure.tier().ordinal())];
 	}
 	
 	private PedestalRecipeTier getPedestalTier() {
@@ -799,34 +811,39 @@ public class PedestalBlockEntity extends LockableContainerBlockEntity implements
 	
 	
 	@NotNull
-	private PedestalRecipeTier getStructureTier() {
+	private PedestalStructure getStructure(World world) {
 		Multiblock multiblock;
 		
 		multiblock = SpectrumMultiblocks.get(SpectrumMultiblocks.PEDESTAL_COMPLEX);
 		if (multiblock.validate(world, pos.down(), BlockRotation.NONE)) {
-			SpectrumAdvancementCriteria.COMPLETED_MULTIBLOCK.trigger((ServerPlayerEntity) this.getOwnerIfOnline(), multiblock);
-			return PedestalRecipeTier.COMPLEX;
+			return new PedestalStructure(PedestalRecipeTier.COMPLEX, multiblock);
 		}
 		
 		multiblock = SpectrumMultiblocks.get(SpectrumMultiblocks.PEDESTAL_COMPLEX_WITHOUT_MOONSTONE);
 		if (multiblock.validate(world, pos.down(), BlockRotation.NONE)) {
-			SpectrumAdvancementCriteria.COMPLETED_MULTIBLOCK.trigger((ServerPlayerEntity) this.getOwnerIfOnline(), multiblock);
-			return PedestalRecipeTier.ADVANCED;
+			return new PedestalStructure(PedestalRecipeTier.ADVANCED, multiblock);
 		}
 		
 		multiblock = SpectrumMultiblocks.get(SpectrumMultiblocks.PEDESTAL_ADVANCED);
 		if (multiblock.validate(world, pos.down(), BlockRotation.NONE)) {
-			SpectrumAdvancementCriteria.COMPLETED_MULTIBLOCK.trigger((ServerPlayerEntity) this.getOwnerIfOnline(), multiblock);
-			return PedestalRecipeTier.ADVANCED;
+			return new PedestalStructure(PedestalRecipeTier.ADVANCED, multiblock);
 		}
 		
 		multiblock = SpectrumMultiblocks.get(SpectrumMultiblocks.PEDESTAL_SIMPLE);
 		if (multiblock.validate(world, pos.down(), BlockRotation.NONE)) {
-			SpectrumAdvancementCriteria.COMPLETED_MULTIBLOCK.trigger((ServerPlayerEntity) this.getOwnerIfOnline(), multiblock);
-			return PedestalRecipeTier.SIMPLE;
+			return new PedestalStructure(PedestalRecipeTier.SIMPLE, multiblock);
 		}
 		
-		return PedestalRecipeTier.BASIC;
+		return PedestalStructure.NONE;
+	}
+	
+	/**
+	 * @param multiblock the completed multiblock, if any
+	 */
+	protected record PedestalStructure(PedestalRecipeTier tier, @Nullable Multiblock multiblock) {
+		
+		protected static final PedestalStructure NONE = new PedestalStructure(PedestalRecipeTier.BASIC, null);
+		
 	}
 	
 	@Override
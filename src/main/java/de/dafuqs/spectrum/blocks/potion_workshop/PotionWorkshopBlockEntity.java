@@ -8,6 +8,7 @@ import de.dafuqs.spectrum.api.item.*;
 import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.inventories.*;
 import de.dafuqs.spectrum.progression.*;
+import de.dafuqs.spectrum.recipe.*;
 import de.dafuqs.spectrum.recipe.potion_workshop.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.advancement.criterion.*;
@@ -55,6 +56,12 @@ public class PotionWorkshopBlockEntity extends BlockEntity implements NamedScree
 	private static final int[] ACCESSIBLE_SLOTS_SIDE_WITH_UNLOCK = {5, 6, 7, 8};
 	private static final int[] ACCESSIBLE_SLOTS_DOWN = {9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20};
 	
+	// all recipes need their ingredients in the ingredient slots
+	private static final RecipeIndex<Inventory, PotionWorkshopBrewingRecipe> BREWING_RECIPE_INDEX = new RecipeIndex<>(() -> SpectrumRecipeTypes.POTION_WORKSHOP_BREWING, recipe ->
+			recipe.getClass() == PotionWorkshopBrewingRecipe.class ? IngredientStack.listIngredients(recipe.getOtherIngredients()) : null);
+	private static final RecipeIndex<Inventory, PotionWorkshopCraftingRecipe> CRAFTING_RECIPE_INDEX = new RecipeIndex<>(() -> SpectrumRecipeTypes.POTION_WORKSHOP_CRAFTING, recipe ->
+			recipe.getClass() == PotionWorkshopCraftingRecipe.class ? IngredientStack.listIngredients(recipe.getOtherIngredients()) : null);
+	
 	public static final Identifier FOURTH_BREWING_SLOT_ADVANCEMENT_IDENTIFIER = SpectrumCommon.locate("milestones/unlock_fourth_potion_workshop_reagent_slot");
 	
 	protected final PropertyDelegate propertyDelegate;
@@ -174,7 +181,7 @@ public class PotionWorkshopBlockEntity extends BlockEntity implements NamedScree
 		} else {
 			// current recipe does not match last recipe
 			// => search valid recipe
-			PotionWorkshopBrewingRecipe newPotionWorkshopBrewingRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.POTION_WORKSHOP_BREWING, potionWorkshopBlockEntity, world).orElse(null);
+			PotionWorkshopBrewingRecipe newPotionWorkshopBrewingRecipe = BREWING_RECIPE_INDEX.getFirstMatch(potionWorkshopBlockEntity, world, INGREDIENT_SLOTS).orElse(null);
 			if (newPotionWorkshopBrewingRecipe != null) {
 				if (newPotionWorkshopBrewingRecipe.canPlayerCraft(potionWorkshopBlockEntity.getOwnerIfOnline())) {
 					// we check for reagents here instead of the recipe itself because of performance
@@ -183,7 +190,7 @@ public class PotionWorkshopBlockEntity extends BlockEntity implements NamedScree
 					}
 				}
 			} else {
-				PotionWorkshopCraftingRecipe newPotionWorkshopCraftingRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.POTION_WORKSHOP_CRAFTING, potionWorkshopBlockEntity, world).orElse(null);
+				PotionWorkshopCraftingRecipe newPotionWorkshopCraftingRecipe = CRAFTING_RECIPE_INDEX.getFirstMatch(potionWorkshopBlockEntity, world, INGREDIENT_SLOTS).orElse(null);
 				if (newPotionWorkshopCraftingRecipe != null) {
 					if (newPotionWorkshopCraftingRecipe.canPlayerCraft(potionWorkshopBlockEntity.getOwnerIfOnline())) {
 						newRecipe = newPotionWorkshopCraftingRecipe;
@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.blocks.redstone;
 
 import net.minecraft.block.*;
+import net.minecraft.entity.*;
 import net.minecraft.entity.player.*;
 import net.minecraft.server.world.*;
 import net.minecraft.state.StateManager.*;
@@ -8,10 +9,13 @@ import net.minecraft.state.property.*;
 import net.minecraft.util.*;
 import net.minecraft.util.hit.*;
 import net.minecraft.util.math.*;
-import net.minecraft.util.math.random.*;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.util.shape.*;
 import net.minecraft.world.*;
 
+import java.util.*;
+import java.util.function.*;
+
 public abstract class DetectorBlock extends Block {
 	
 	public static final IntProperty POWER = Properties.POWER;
@@ -74,13 +78,21 @@ public abstract class DetectorBlock extends Block {
 	@Deprecated
 	public void onBlockAdded(BlockState state, World world, BlockPos pos, BlockState oldState, boolean notify) {
 		updateState(state, world, pos);
-		world.scheduleBlockTick(pos, state.getBlock(), getUpdateFrequencyTicks());
+		world.scheduleBlockTick(pos, state.getBlock(), getTicksUntilNextUpdate(world));
 	}
 	
 	@Override
 	public void scheduledTick(BlockState state, ServerWorld world, BlockPos pos, Random random) {
 		updateState(state, world, pos);
-		world.scheduleBlockTick(pos, state.getBlock(), getUpdateFrequencyTicks());
+		world.scheduleBlockTick(pos, state.getBlock(), getTicksUntilNextUpdate(world));
+	}
+	
+	/**
+	 * Detectors of the same kind all update in the same tick, so they can share their entity scans
+	 */
+	protected int getTicksUntilNextUpdate(World world) {
+		int frequency = getUpdateFrequencyTicks();
+		return frequency - (int) (world.getTime() % frequency);
 	}
 	
 	abstract void updateState(BlockState state, World world, BlockPos pos);
@@ -91,4 +103,8 @@ public abstract class DetectorBlock extends Block {
 		return Box.of(Vec3d.ofCenter(blockPos), radius, radius, radius);
 	}
 	
+	protected <T extends Entity> List<T> getEntitiesWithRadius(World world, TypeFilter<Entity, T> filter, BlockPos blockPos, int radius, Predicate<? super T> predicate) {
+		return DetectorEntityScan.getEntitiesByType(world, filter, getBoxWithRadius(blockPos, radius), predicate);
+	}
+	
 }
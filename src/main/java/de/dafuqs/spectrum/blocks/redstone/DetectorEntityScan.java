@@ -0,0 +1,95 @@
+package de.dafuqs.spectrum.blocks.redstone;
+
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.entity.*;
+import net.minecraft.registry.*;
+import net.minecraft.util.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Entity queries of {@link DetectorBlock}s. All entities of a chunk section get gathered at most once per tick
+ * and world, no matter how many detectors look at it. Since detectors update in lockstep,
+ * contraptions with many detectors close to each other only pay for a single sweep over their sections.
+ */
+public class DetectorEntityScan {
+	
+	private static final Map<RegistryKey<World>, SectionEntities> SECTION_ENTITIES = new HashMap<>();
+	
+	/**
+	 * Behaves like {@link World#getEntitiesByType(TypeFilter, Box, Predicate)}, but reuses entities gathered this tick
+	 */
+	public static <T extends Entity> List<T> getEntitiesByType(World world, TypeFilter<Entity, T> filter, Box box, Predicate<? super T> predicate) {
+		if (world.isClient) {
+			return world.getEntitiesByType(filter, box, predicate);
+		}
+		
+		SectionEntities sectionEntities = SECTION_ENTITIES.computeIfAbsent(world.getRegistryKey(), key -> new SectionEntities());
+		long time = world.getTime();
+		if (sectionEntities.time != time) {
+			sectionEntities.entities.clear();
+			sectionEntities.time = time;
+		}
+		
+		List<T> result = new ArrayList<>();
+		// entities crossing section borders show up in multiple sections
+		Set<Entity> checkedEntities = new ReferenceOpenHashSet<>();
+		int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minX));
+		int minY = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minY));
+		int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minZ));
+		int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxX));
+		int maxY = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxY));
+		int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxZ));
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					for (Entity entity : sectionEntities.get(world, x, y, z)) {
+						if (entity.getBoundingBox().intersects(box) && checkedEntities.add(entity)) {
+							T downcast = filter.downcast(entity);
+							if (downcast != null && predicate.test(downcast)) {
+								result.add(downcast);
+							}
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * Drops the entities gathered this tick, so they are not held on to until the next query.
+	 * Called at the end of each server tick
+	 */
+	public static void endTick() {
+		for (SectionEntities sectionEntities : SECTION_ENTITIES.values()) {
+			sectionEntities.entities.clear();
+		}
+	}
+	
+	public static void clear() {
+		SECTION_ENTITIES.clear();
+	}
+	
+	private static class SectionEntities {
+		
+		private final Long2ObjectMap<List<Entity>> entities = new Long2ObjectOpenHashMap<>();
+		private long time = -1;
+		
+		private List<Entity> get(World world, int sectionX, int sectionY, int sectionZ) {
+			return this.entities.computeIfAbsent(ChunkSectionPos.asLong(sectionX, sectionY, sectionZ), sectionPos -> {
+				int minX = ChunkSectionPos.getBlockCoord(sectionX);
+				int minY = ChunkSectionPos.getBlockCoord(sectionY);
+				int minZ = ChunkSectionPos.getBlockCoord(sectionZ);
+				Box sectionBox = new Box(minX, minY, minZ, minX + 16, minY + 16, minZ + 16);
+				return world.getEntitiesByType(TypeFilter.instanceOf(Entity.class), sectionBox, entity -> true);
+			});
+		}
+		
+	}
+	
+}
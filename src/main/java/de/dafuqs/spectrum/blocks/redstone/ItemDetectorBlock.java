@@ -16,7 +16,7 @@ public class ItemDetectorBlock extends DetectorBlock {
 	
 	@Override
 	protected void updateState(BlockState state, World world, BlockPos pos) {
-		List<ItemEntity> items = world.getEntitiesByType(EntityType.ITEM, getBoxWithRadius(pos, 10), Entity::isAlive);
+		List<ItemEntity> items = getEntitiesWithRadius(world, EntityType.ITEM, pos, 10, Entity::isAlive);
 		
 		int power;
 		if (items.size() > 0) {
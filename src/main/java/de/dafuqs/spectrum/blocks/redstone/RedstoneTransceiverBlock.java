@@ -9,7 +9,6 @@ import net.minecraft.entity.*;
 import net.minecraft.entity.player.*;
 import net.minecraft.item.*;
 import net.minecraft.particle.*;
-import net.minecraft.server.world.*;
 import net.minecraft.sound.*;
 import net.minecraft.state.*;
 import net.minecraft.state.property.*;
@@ -18,7 +17,6 @@ import net.minecraft.util.hit.*;
 import net.minecraft.util.math.*;
 import net.minecraft.util.math.random.*;
 import net.minecraft.world.*;
-import net.minecraft.world.event.listener.*;
 import org.jetbrains.annotations.*;
 
 public class RedstoneTransceiverBlock extends AbstractRedstoneGateBlock implements BlockEntityProvider, ColorableBlock {
@@ -74,12 +72,6 @@ public class RedstoneTransceiverBlock extends AbstractRedstoneGateBlock implemen
 		builder.add(FACING, POWERED, SENDER, CHANNEL);
 	}
 	
-	@Override
-	@Nullable
-	public <T extends BlockEntity> GameEventListener getGameEventListener(ServerWorld world, T blockEntity) {
-		return blockEntity instanceof RedstoneTransceiverBlockEntity ? ((RedstoneTransceiverBlockEntity) blockEntity).getEventListener() : null;
-	}
-	
 	@Override
 	public void updatePowered(World world, BlockPos pos, BlockState state) {
 		int newSignal = world.getReceivedRedstonePower(pos);
@@ -6,23 +6,25 @@ import de.dafuqs.spectrum.registries.*;
 import net.minecraft.block.*;
 import net.minecraft.block.entity.*;
 import net.minecraft.nbt.*;
+import net.minecraft.server.world.*;
 import net.minecraft.util.*;
 import net.minecraft.util.math.*;
 import net.minecraft.world.*;
 import net.minecraft.world.event.*;
-import net.minecraft.world.event.listener.*;
 import org.jetbrains.annotations.*;
 
-public class RedstoneTransceiverBlockEntity extends BlockEntity implements WirelessRedstoneSignalEventQueue.Callback<WirelessRedstoneSignalEventQueue.EventEntry> {
+public class RedstoneTransceiverBlockEntity extends BlockEntity implements WirelessRedstoneSignalEventQueue.Callback {
 	
 	private static final int RANGE = 16;
 	private final WirelessRedstoneSignalEventQueue listener;
 	private int cachedSignal;
 	private int currentSignal;
+	// the channel this is registered as a receiver on in RedstoneTransceiverChannels
+	private @Nullable DyeColor receivingChannel;
 	
 	public RedstoneTransceiverBlockEntity(BlockPos blockPos, BlockState blockState) {
 		super(SpectrumBlockEntities.REDSTONE_TRANSCEIVER, blockPos, blockState);
-		this.listener = new WirelessRedstoneSignalEventQueue(new BlockPositionSource(this.pos), RANGE, this);
+		this.listener = new WirelessRedstoneSignalEventQueue(new BlockPositionSource(this.pos), this);
 	}
 	
 	private static boolean isSender(World world, BlockPos blockPos) {
@@ -33,16 +35,65 @@ public class RedstoneTransceiverBlockEntity extends BlockEntity implements Wirel
 	}
 	
 	public static void serverTick(@NotNull World world, BlockPos pos, BlockState state, @NotNull RedstoneTransceiverBlockEntity blockEntity) {
+		blockEntity.updateReceivingChannel();
 		if (isSender(world, pos)) {
 			if (blockEntity.currentSignal != blockEntity.cachedSignal) {
 				blockEntity.currentSignal = blockEntity.cachedSignal;
-				blockEntity.getWorld().emitGameEvent(null, SpectrumGameEvents.WIRELESS_REDSTONE_SIGNALS.get(state.get(RedstoneTransceiverBlock.CHANNEL)).get(blockEntity.currentSignal), blockEntity.getPos());
+				RedstoneTransferGameEvent signal = SpectrumGameEvents.WIRELESS_REDSTONE_SIGNALS.get(state.get(RedstoneTransceiverBlock.CHANNEL)).get(blockEntity.currentSignal);
+				RedstoneTransceiverChannels.transmit((ServerWorld) world, pos, signal, RANGE);
 			}
 		} else {
 			blockEntity.listener.tick(world);
 		}
 	}
 	
+	/**
+	 * (Un)registers this as a receiver in {@link RedstoneTransceiverChannels}, following its channel and mode.
+	 * Called each tick and when the block entity gets loaded
+	 */
+	public void updateReceivingChannel() {
+		BlockState state = this.getCachedState();
+		DyeColor channel = this.isRemoved() || state.get(RedstoneTransceiverBlock.SENDER) ? null : state.get(RedstoneTransceiverBlock.CHANNEL);
+		if (channel != this.receivingChannel && this.world != null) {
+			if (this.receivingChannel != null) {
+				RedstoneTransceiverChannels.remove(this.world, this, this.receivingChannel);
+			}
+			if (channel != null) {
+				RedstoneTransceiverChannels.add(this.world, this, channel);
+			}
+			this.receivingChannel = channel;
+		}
+	}
+	
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		updateReceivingChannel();
+	}
+	
+	/**
+	 * Called when the chunk unloads. Unloaded receivers are not marked as removed, so they have to leave their channel here.
+	 * The instance created once the chunk is loaded again registers itself on load
+	 */
+	public void stopReceiving() {
+		if (this.receivingChannel != null && this.world != null) {
+			RedstoneTransceiverChannels.remove(this.world, this, this.receivingChannel);
+			this.receivingChannel = null;
+		}
+	}
+	
+	/**
+	 * Queues a signal sent by a transceiver at emitterPos, delayed by the distance it has to travel
+	 */
+	void receiveSignal(ServerWorld world, Vec3d emitterPos, RedstoneTransferGameEvent signal) {
+		BlockState state = this.getCachedState();
+		if (!state.get(RedstoneTransceiverBlock.SENDER)
+				&& state.get(RedstoneTransceiverBlock.CHANNEL) == signal.getDyeColor()
+				&& Vec3d.ofCenter(this.pos).squaredDistanceTo(emitterPos) <= RANGE * RANGE) {
+			this.listener.acceptSignal(world, signal, emitterPos);
+		}
+	}
+	
 	public static DyeColor getChannel(World world, BlockPos pos) {
 		if (world == null) {
 			return DyeColor.RED;
@@ -64,24 +115,12 @@ public class RedstoneTransceiverBlockEntity extends BlockEntity implements Wirel
 		this.cachedSignal = tag.getInt("cached_signal");
 	}
 	
-	public @Nullable WirelessRedstoneSignalEventQueue getEventListener() {
-		return this.listener;
-	}
-	
 	public int getRange() {
 		return RANGE;
 	}
 	
 	@Override
-	public boolean canAcceptEvent(World world, GameEventListener listener, GameEvent.Message message, Vec3d sourcePos) {
-		return !this.isRemoved()
-				&& message.getEvent() instanceof RedstoneTransferGameEvent redstoneTransferGameEvent
-				&& !isSender(this.getWorld(), this.pos)
-				&& redstoneTransferGameEvent.getDyeColor() == getChannel(this.getWorld(), this.pos);
-	}
-	
-	@Override
-	public void triggerEvent(World world, GameEventListener listener, WirelessRedstoneSignalEventQueue.EventEntry redstoneEvent) {
+	public void triggerEvent(World world, WirelessRedstoneSignalEventQueue.EventEntry redstoneEvent) {
 		if (!isSender(this.getWorld(), this.pos) && redstoneEvent.gameEvent.getDyeColor() == getChannel(this.getWorld(), this.pos)) {
 			int receivedSignal = redstoneEvent.gameEvent.getPower();
 			this.currentSignal = receivedSignal;
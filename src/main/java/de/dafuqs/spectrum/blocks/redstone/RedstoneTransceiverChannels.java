@@ -0,0 +1,101 @@
+package de.dafuqs.spectrum.blocks.redstone;
+
+import de.dafuqs.spectrum.events.*;
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.registry.*;
+import net.minecraft.server.world.*;
+import net.minecraft.util.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+
+import java.util.*;
+
+/**
+ * The receiving {@link RedstoneTransceiverBlockEntity}s of each world, by channel and chunk section.
+ * Senders hand their signals straight to the receivers in range on their channel,
+ * instead of emitting a game event that every listener around them would have to look at.
+ */
+public class RedstoneTransceiverChannels {
+
+	private static final Map<RegistryKey<World>, Map<DyeColor, Long2ObjectMap<Set<RedstoneTransceiverBlockEntity>>>> RECEIVERS = new HashMap<>();
+
+	public static void add(World world, RedstoneTransceiverBlockEntity receiver, DyeColor channel) {
+		RECEIVERS.computeIfAbsent(world.getRegistryKey(), key -> new EnumMap<>(DyeColor.class))
+				.computeIfAbsent(channel, color -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(ChunkSectionPos.toLong(receiver.getPos()), sectionPos -> new ReferenceOpenHashSet<>())
+				.add(receiver);
+	}
+
+	public static void remove(World world, RedstoneTransceiverBlockEntity receiver, DyeColor channel) {
+		Map<DyeColor, Long2ObjectMap<Set<RedstoneTransceiverBlockEntity>>> channels = RECEIVERS.get(world.getRegistryKey());
+		if (channels == null) {
+			return;
+		}
+		Long2ObjectMap<Set<RedstoneTransceiverBlockEntity>> sections = channels.get(channel);
+		if (sections == null) {
+			return;
+		}
+		long sectionPos = ChunkSectionPos.toLong(receiver.getPos());
+		Set<RedstoneTransceiverBlockEntity> receivers = sections.get(sectionPos);
+		if (receivers != null && receivers.remove(receiver) && receivers.isEmpty()) {
+			sections.remove(sectionPos);
+		}
+	}
+
+	/**
+	 * Delivers a signal to all receivers on its channel that are within range of the sender
+	 */
+	public static void transmit(ServerWorld world, BlockPos senderPos, RedstoneTransferGameEvent signal, int range) {
+		Map<DyeColor, Long2ObjectMap<Set<RedstoneTransceiverBlockEntity>>> channels = RECEIVERS.get(world.getRegistryKey());
+		if (channels == null) {
+			return;
+		}
+		Long2ObjectMap<Set<RedstoneTransceiverBlockEntity>> sections = channels.get(signal.getDyeColor());
+		if (sections == null || sections.isEmpty()) {
+			return;
+		}
+
+		Vec3d emitterPos = Vec3d.ofCenter(senderPos);
+		int minX = ChunkSectionPos.getSectionCoord(senderPos.getX() - range);
+		int minY = ChunkSectionPos.getSectionCoord(senderPos.getY() - range);
+		int minZ = ChunkSectionPos.getSectionCoord(senderPos.getZ() - range);
+		int maxX = ChunkSectionPos.getSectionCoord(senderPos.getX() + range);
+		int maxY = ChunkSectionPos.getSectionCoord(senderPos.getY() + range);
+		int maxZ = ChunkSectionPos.getSectionCoord(senderPos.getZ() + range);
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				for (int y = minY; y <= maxY; y++) {
+					long sectionPos = ChunkSectionPos.asLong(x, y, z);
+					Set<RedstoneTransceiverBlockEntity> receivers = sections.get(sectionPos);
+					if (receivers == null) {
+						continue;
+					}
+					// receivers leave their channel when their chunk unloads. Checking for the chunk anyway,
+					// since looking up the block entity below would load it again
+					if (!world.isChunkLoaded(x, z)) {
+						continue;
+					}
+
+					Iterator<RedstoneTransceiverBlockEntity> iterator = receivers.iterator();
+					while (iterator.hasNext()) {
+						RedstoneTransceiverBlockEntity receiver = iterator.next();
+						if (receiver.isRemoved() || world.getBlockEntity(receiver.getPos()) != receiver) {
+							iterator.remove();
+						} else {
+							receiver.receiveSignal(world, emitterPos, signal);
+						}
+					}
+					if (receivers.isEmpty()) {
+						sections.remove(sectionPos);
+					}
+				}
+			}
+		}
+	}
+
+	public static void clear() {
+		RECEIVERS.clear();
+	}
+
+}
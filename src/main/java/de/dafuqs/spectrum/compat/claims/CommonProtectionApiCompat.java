@@ -1,14 +1,63 @@
 package de.dafuqs.spectrum.compat.claims;
 
 import eu.pb4.common.protection.api.*;
+import it.unimi.dsi.fastutil.longs.*;
 import net.minecraft.entity.*;
 import net.minecraft.entity.player.*;
+import net.minecraft.registry.*;
+import net.minecraft.server.world.*;
 import net.minecraft.util.math.*;
 import net.minecraft.world.*;
 
+import java.util.*;
+
 public class CommonProtectionApiCompat {
 	
+	/**
+	 * For how long the knowledge about whether a chunk section contains any claims gets reused.
+	 * Area effects touching hundreds of blocks only need a single lookup per section this way,
+	 * at the cost of claims only being respected up to a second after they got created
+	 */
+	private static final int SECTION_CACHE_TICKS = 20;
+	private static final Map<RegistryKey<World>, ProtectedSections> PROTECTED_SECTIONS = new HashMap<>();
+	
+	public static void clearCache() {
+		PROTECTED_SECTIONS.clear();
+	}
+	
+	/**
+	 * Positions in sections without any claims are not checked individually
+	 */
+	private static boolean isSectionProtected(World world, BlockPos pos) {
+		// the cache is only accessed from the server thread
+		if (!(world instanceof ServerWorld)) {
+			return true;
+		}
+		
+		ProtectedSections sections = PROTECTED_SECTIONS.computeIfAbsent(world.getRegistryKey(), key -> new ProtectedSections());
+		long time = world.getTime();
+		if (time < sections.time || time - sections.time >= SECTION_CACHE_TICKS) {
+			sections.isProtected.clear();
+			sections.time = time;
+		}
+		
+		long sectionPos = ChunkSectionPos.toLong(pos);
+		if (sections.isProtected.containsKey(sectionPos)) {
+			return sections.isProtected.get(sectionPos);
+		}
+		
+		int minX = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackX(sectionPos));
+		int minY = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackY(sectionPos));
+		int minZ = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackZ(sectionPos));
+		boolean isProtected = CommonProtection.isAreaProtected(world, new Box(minX, minY, minZ, minX + 16, minY + 16, minZ + 16));
+		sections.isProtected.put(sectionPos, isProtected);
+		return isProtected;
+	}
+	
 	public static boolean canBreak(World world, BlockPos pos, Entity cause) {
+		if (!isSectionProtected(world, pos)) {
+			return true;
+		}
 		if (cause instanceof PlayerEntity playerEntity) {
 			return CommonProtection.canBreakBlock(world, pos, playerEntity.getGameProfile(), playerEntity);
 		} else {
@@ -25,6 +74,9 @@ public class CommonProtectionApiCompat {
 	}
 
 	public static boolean canInteract(World world, BlockPos pos, Entity cause) {
+		if (!isSectionProtected(world, pos)) {
+			return true;
+		}
 		if (cause instanceof PlayerEntity playerEntity) {
 			return CommonProtection.canInteractBlock(world, pos, playerEntity.getGameProfile(), playerEntity);
 		} else {
@@ -33,6 +85,9 @@ public class CommonProtectionApiCompat {
 	}
 
 	public static boolean canModify(World world, BlockPos pos, Entity cause) {
+		if (!isSectionProtected(world, pos)) {
+			return true;
+		}
 		if (cause instanceof PlayerEntity playerEntity) {
 			return CommonProtection.canPlaceBlock(world, pos, playerEntity.getGameProfile(), playerEntity) &&
 					CommonProtection.canBreakBlock(world, pos, playerEntity.getGameProfile(), playerEntity);
@@ -43,6 +98,9 @@ public class CommonProtectionApiCompat {
 	}
 
 	public static boolean canPlaceBlock(World world, BlockPos pos, Entity cause) {
+		if (!isSectionProtected(world, pos)) {
+			return true;
+		}
 		if (cause instanceof PlayerEntity playerEntity) {
 			return CommonProtection.canPlaceBlock(world, pos, playerEntity.getGameProfile(), playerEntity);
 		} else {
@@ -50,4 +108,11 @@ public class CommonProtectionApiCompat {
 		}
 	}
 	
+	private static class ProtectedSections {
+		
+		private final Long2BooleanOpenHashMap isProtected = new Long2BooleanOpenHashMap();
+		private long time;
+		
+	}
+	
 }
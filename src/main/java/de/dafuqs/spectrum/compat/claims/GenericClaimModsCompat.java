@@ -28,6 +28,15 @@ public class GenericClaimModsCompat {
 		return true;
 	}
 	
+	/**
+	 * Forgets which regions are known to be free of claims
+	 */
+	public static void clearCache() {
+		if (IS_COMMON_PROTECTION_API_PRESENT) {
+			CommonProtectionApiCompat.clearCache();
+		}
+	}
+	
 	public static boolean canInteract(World world, Entity entity, @Nullable Entity cause) {
 		if (IS_COMMON_PROTECTION_API_PRESENT) {
 			return CommonProtectionApiCompat.canInteract(world, entity, cause);
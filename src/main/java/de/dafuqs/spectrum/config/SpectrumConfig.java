@@ -40,6 +40,12 @@ public class SpectrumConfig implements ConfigData {
 	@Comment("Replaces the ornate models of spectrum's transfer system with something simpler for increased visibility. Great for technical players!")
 	public boolean MinimalNodes = false;
 
+	@Comment("Beams between Pastel Nodes further away than this many blocks do not get rendered. Set to 0 to not render them at all")
+	public int PastelNetworkBeamRenderDistance = 64;
+
+	@Comment("Renders placed mob heads as part of the world instead of drawing each of them every frame. Great for trophy walls! Heads with glowing or colored parts are still drawn every frame. Reload resources (F3 + T) after changing this")
+	public boolean BakedMobHeads = false;
+
 	@Comment("""
 			The vanilla anvil caps enchantment levels at the max level for the enchantment
 			So enchanted books that exceed the enchantments natural max level get capped
@@ -198,6 +204,18 @@ public class SpectrumConfig implements ConfigData {
 	public float BedrockArmorToughness = 3.0F;
 	public float BedrockArmorKnockbackResistance = 0.3F;
 	
+	@Comment("""
+			Modular Explosions destroy their blocks chunk section by chunk section, only updating the blocks around the blast
+			once it is done, and merging their drops. Set to false to process and update each block individually instead.
+			""")
+	public boolean ModularExplosionBatchedBlockProcessing = true;
+	
+	@Comment("""
+			With batched processing, Modular Explosions destroying more blocks than this get spread out over multiple ticks,
+			destroying this many blocks each tick. Set to 0 to always destroy all blocks at once.
+			""")
+	public int ModularExplosionBlocksPerTick = 4096;
+	
 	public int MaxLevelForEffectsInLesserPotionPendant = 3;
 	public int MaxLevelForEffectsInGreaterPotionPendant = 1;
 	
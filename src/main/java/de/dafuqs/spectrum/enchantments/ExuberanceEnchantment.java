@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.enchantments;
 
 import de.dafuqs.spectrum.*;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.items.tools.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.enchantment.*;
@@ -16,7 +17,7 @@ public class ExuberanceEnchantment extends SpectrumEnchantment {
 	}
 	
 	public static float getExuberanceMod(PlayerEntity breakingPlayer) {
-		if (breakingPlayer != null && EnchantmentHelper.getLevel(SpectrumEnchantments.EXUBERANCE, breakingPlayer.getMainHandStack()) > 0) {
+		if (breakingPlayer != null && SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.EXUBERANCE, breakingPlayer.getMainHandStack()) > 0) {
 			int exuberanceLevel = EnchantmentHelper.getEquipmentLevel(SpectrumEnchantments.EXUBERANCE, breakingPlayer);
 			return getExuberanceMod(exuberanceLevel);
 		} else {
@@ -3,10 +3,10 @@ package de.dafuqs.spectrum.enchantments;
 import de.dafuqs.revelationary.api.advancements.*;
 import de.dafuqs.spectrum.compat.gofish.*;
 import de.dafuqs.spectrum.items.tools.*;
+import de.dafuqs.spectrum.recipe.*;
 import net.minecraft.enchantment.*;
 import net.minecraft.entity.*;
 import net.minecraft.entity.player.*;
-import net.minecraft.inventory.*;
 import net.minecraft.item.*;
 import net.minecraft.recipe.*;
 import net.minecraft.util.*;
@@ -17,14 +17,14 @@ import java.util.*;
 
 public class FoundryEnchantment extends SpectrumEnchantment {
 	
-	private static final AutoSmeltInventory autoSmeltInventory = new AutoSmeltInventory();
+	private static final SingleInputRecipeCache<SmeltingRecipe> SMELTING_RECIPE_CACHE = new SingleInputRecipeCache<>(() -> RecipeType.SMELTING);
 	
 	public FoundryEnchantment(Rarity weight, Identifier unlockAdvancementIdentifier, EquipmentSlot... slotTypes) {
 		super(weight, EnchantmentTarget.DIGGER, slotTypes, unlockAdvancementIdentifier);
 	}
 	
 	public static ItemStack getAutoSmeltedItemStack(ItemStack inputItemStack, World world) {
-		SmeltingRecipe smeltingRecipe = autoSmeltInventory.getRecipe(inputItemStack, world);
+		SmeltingRecipe smeltingRecipe = SMELTING_RECIPE_CACHE.getRecipeFor(inputItemStack, world);
 		if (smeltingRecipe != null) {
 			ItemStack recipeOutputStack = smeltingRecipe.getOutput(world.getRegistryManager()).copy();
 			recipeOutputStack.setCount(recipeOutputStack.getCount() * inputItemStack.getCount());
@@ -85,63 +85,4 @@ public class FoundryEnchantment extends SpectrumEnchantment {
 		return super.isAcceptableItem(stack) || stack.getItem() instanceof SpectrumFishingRodItem;
 	}
 	
-	public static class AutoSmeltInventory implements Inventory, RecipeInputProvider {
-		ItemStack input = ItemStack.EMPTY;
-		
-		@Override
-		public int size() {
-			return 1;
-		}
-		
-		@Override
-		public boolean isEmpty() {
-			return input.isEmpty();
-		}
-		
-		@Override
-		public ItemStack getStack(int slot) {
-			return input;
-		}
-		
-		@Override
-		public ItemStack removeStack(int slot, int amount) {
-			return null;
-		}
-		
-		@Override
-		public ItemStack removeStack(int slot) {
-			return null;
-		}
-		
-		@Override
-		public void setStack(int slot, ItemStack stack) {
-			this.input = stack;
-		}
-		
-		@Override
-		public void markDirty() {
-		}
-		
-		@Override
-		public boolean canPlayerUse(PlayerEntity player) {
-			return false;
-		}
-		
-		@Override
-		public void clear() {
-			input = ItemStack.EMPTY;
-		}
-		
-		private SmeltingRecipe getRecipe(ItemStack itemStack, World world) {
-			setStack(0, itemStack);
-			return world.getRecipeManager().getFirstMatch(RecipeType.SMELTING, this, world).orElse(null);
-		}
-		
-		@Override
-		public void provideRecipeInputs(RecipeMatcher recipeMatcher) {
-			recipeMatcher.addInput(input);
-		}
-		
-	}
-	
 }
\ No newline at end of file
@@ -237,7 +237,7 @@ public class DraconicTwinswordEntity extends BidentBaseEntity implements NonLivi
 	}
 	
 	private void applyInertiaEffects(ItemStack stack) {
-		var inertia = EnchantmentHelper.getLevel(SpectrumEnchantments.INERTIA, stack);
+		var inertia = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INERTIA, stack);
 		if (inertia > 0) {
 			damageMult += inertia * 0.1675F;
 			if (velMult < 2) {
@@ -0,0 +1,70 @@
+package de.dafuqs.spectrum.events;
+
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.registry.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+
+import java.util.*;
+
+/**
+ * Keeps track of which chunk sections are covered by at least one listener
+ * that is interested in {@link SpectrumGameEvents#BLOCK_CHANGED}.
+ * Block changes in all other sections do not emit that event at all,
+ * so worlds without any listeners pay nothing but a single map lookup.
+ */
+public class BlockChangedEventSections {
+
+	private static final Map<RegistryKey<World>, Long2IntOpenHashMap> WATCHED_SECTIONS = new HashMap<>();
+
+	public static void watch(World world, BlockPos center, int range) {
+		Long2IntOpenHashMap sections = WATCHED_SECTIONS.computeIfAbsent(world.getRegistryKey(), key -> new Long2IntOpenHashMap());
+		forEachSection(center, range, section -> sections.addTo(section, 1));
+	}
+
+	public static void unwatch(World world, BlockPos center, int range) {
+		Long2IntOpenHashMap sections = WATCHED_SECTIONS.get(world.getRegistryKey());
+		if (sections == null) {
+			return;
+		}
+
+		forEachSection(center, range, section -> {
+			if (sections.addTo(section, -1) <= 1) {
+				sections.remove(section);
+			}
+		});
+		if (sections.isEmpty()) {
+			WATCHED_SECTIONS.remove(world.getRegistryKey());
+		}
+	}
+
+	public static boolean isWatched(World world, BlockPos pos) {
+		if (WATCHED_SECTIONS.isEmpty()) {
+			return false;
+		}
+
+		Long2IntOpenHashMap sections = WATCHED_SECTIONS.get(world.getRegistryKey());
+		return sections != null && sections.containsKey(ChunkSectionPos.toLong(pos));
+	}
+
+	public static void clear() {
+		WATCHED_SECTIONS.clear();
+	}
+
+	private static void forEachSection(BlockPos center, int range, LongConsumer consumer) {
+		int minX = ChunkSectionPos.getSectionCoord(center.getX() - range);
+		int minY = ChunkSectionPos.getSectionCoord(center.getY() - range);
+		int minZ = ChunkSectionPos.getSectionCoord(center.getZ() - range);
+		int maxX = ChunkSectionPos.getSectionCoord(center.getX() + range);
+		int maxY = ChunkSectionPos.getSectionCoord(center.getY() + range);
+		int maxZ = ChunkSectionPos.getSectionCoord(center.getZ() + range);
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					consumer.accept(ChunkSectionPos.asLong(x, y, z));
+				}
+			}
+		}
+	}
+
+}
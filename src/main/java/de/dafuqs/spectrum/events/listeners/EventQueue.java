@@ -1,5 +1,6 @@
 package de.dafuqs.spectrum.events.listeners;
 
+import de.dafuqs.spectrum.helpers.*;
 import net.minecraft.server.world.*;
 import net.minecraft.util.math.*;
 import net.minecraft.world.*;
@@ -13,23 +14,24 @@ public abstract class EventQueue<D> implements GameEventListener {
 	protected final PositionSource positionSource;
 	protected final int range;
 	protected final EventQueue.Callback<D> callback;
-	protected final Map<D, Integer> eventQueue;
+	protected final DueTickScheduler<D> eventQueue;
 	
 	public EventQueue(PositionSource positionSource, int range, EventQueue.Callback<D> listener) {
 		this.positionSource = positionSource;
 		this.range = range;
 		this.callback = listener;
-		this.eventQueue = new HashMap<>();
+		this.eventQueue = new DueTickScheduler<>();
 	}
 	
 	public void tick(World world) {
-		for (D key : new HashSet<>(eventQueue.keySet())) {
-			Integer tickCounter = eventQueue.get(key);
-			if (tickCounter >= 1) {
-				eventQueue.put(key, tickCounter - 1);
-			} else {
-				this.callback.triggerEvent(world, this, key);
-				eventQueue.remove(key);
+		// idle queues do not need to advance: delays of new events are relative to the tick they got scheduled in
+		if (this.eventQueue.isEmpty()) {
+			return;
+		}
+		List<D> dueEvents = this.eventQueue.tickAndGetDue();
+		if (dueEvents != null) {
+			for (D event : dueEvents) {
+				this.callback.triggerEvent(world, this, event);
 			}
 		}
 	}
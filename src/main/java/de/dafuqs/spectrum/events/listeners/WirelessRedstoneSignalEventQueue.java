@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.events.listeners;
 
 import de.dafuqs.spectrum.events.*;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.networking.*;
 import de.dafuqs.spectrum.particle.effect.*;
 import net.minecraft.server.world.*;
@@ -8,23 +9,57 @@ import net.minecraft.util.math.*;
 import net.minecraft.world.*;
 import net.minecraft.world.event.*;
 
-public class WirelessRedstoneSignalEventQueue extends EventQueue<WirelessRedstoneSignalEventQueue.EventEntry> {
+import java.util.*;
+
+/**
+ * Signals that senders handed to a receiving Redstone Transceiver, delayed by the distance they have to travel.
+ * Signals do not go through game event dispatch, so unlike {@link EventQueue} this is no game event listener
+ */
+public class WirelessRedstoneSignalEventQueue {
+	
+	private final PositionSource positionSource;
+	private final WirelessRedstoneSignalEventQueue.Callback callback;
+	private final DueTickScheduler<EventEntry> eventQueue = new DueTickScheduler<>();
 	
-	public WirelessRedstoneSignalEventQueue(PositionSource positionSource, int range, EventQueue.Callback<EventEntry> listener) {
-		super(positionSource, range, listener);
+	public WirelessRedstoneSignalEventQueue(PositionSource positionSource, WirelessRedstoneSignalEventQueue.Callback callback) {
+		this.positionSource = positionSource;
+		this.callback = callback;
 	}
 	
-	@Override
-	public void acceptEvent(World world, GameEvent.Message event, Vec3d sourcePos) {
-		if (world instanceof ServerWorld && event.getEvent() instanceof RedstoneTransferGameEvent redstoneTransferEvent) {
-			Vec3d pos = event.getEmitterPos();
-			WirelessRedstoneSignalEventQueue.EventEntry eventEntry = new WirelessRedstoneSignalEventQueue.EventEntry(redstoneTransferEvent, MathHelper.floor(pos.distanceTo(sourcePos)));
-			int delay = eventEntry.distance * 2;
-			this.schedule(eventEntry, delay);
-			SpectrumS2CPacketSender.playTransmissionParticle((ServerWorld) world, new TypedTransmission(pos, this.positionSource, delay, TypedTransmission.Variant.REDSTONE));
+	public void tick(World world) {
+		// idle queues do not need to advance: delays of new signals are relative to the tick they got scheduled in
+		if (this.eventQueue.isEmpty()) {
+			return;
+		}
+		List<EventEntry> dueEvents = this.eventQueue.tickAndGetDue();
+		if (dueEvents != null) {
+			for (EventEntry event : dueEvents) {
+				this.callback.triggerEvent(world, event);
+			}
 		}
 	}
 	
+	/**
+	 * Accepts a signal handed over directly by a sender
+	 */
+	public void acceptSignal(ServerWorld world, RedstoneTransferGameEvent signal, Vec3d emitterPos) {
+		this.positionSource.getPos(world).ifPresent(sourcePos -> scheduleSignal(world, signal, emitterPos, sourcePos));
+	}
+	
+	private void scheduleSignal(ServerWorld world, RedstoneTransferGameEvent signal, Vec3d emitterPos, Vec3d sourcePos) {
+		WirelessRedstoneSignalEventQueue.EventEntry eventEntry = new WirelessRedstoneSignalEventQueue.EventEntry(signal, MathHelper.floor(emitterPos.distanceTo(sourcePos)));
+		int delay = eventEntry.distance * 2;
+		this.eventQueue.put(eventEntry, delay);
+		SpectrumS2CPacketSender.playTransmissionParticle(world, new TypedTransmission(emitterPos, this.positionSource, delay, TypedTransmission.Variant.REDSTONE));
+	}
+	
+	public interface Callback {
+		/**
+		 * Accepts a signal after its delay.
+		 */
+		void triggerEvent(World world, EventEntry entry);
+	}
+	
 	public static class EventEntry {
 		public final RedstoneTransferGameEvent gameEvent;
 		public final int distance;
@@ -0,0 +1,241 @@
+package de.dafuqs.spectrum.explosion;
+
+import de.dafuqs.spectrum.*;
+import de.dafuqs.spectrum.compat.claims.*;
+import de.dafuqs.spectrum.helpers.*;
+import de.dafuqs.spectrum.mixin.accessors.*;
+import de.dafuqs.spectrum.registries.*;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.block.*;
+import net.minecraft.block.entity.*;
+import net.minecraft.enchantment.*;
+import net.minecraft.entity.player.*;
+import net.minecraft.item.*;
+import net.minecraft.loot.context.*;
+import net.minecraft.nbt.*;
+import net.minecraft.server.world.*;
+import net.minecraft.sound.*;
+import net.minecraft.util.math.*;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.explosion.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Destroys the blocks of a {@link ModularExplosion} one chunk section at a time.
+ * Removed blocks do not update their neighbors right away. Instead, once all blocks are gone,
+ * only the positions at the edge of the blast update their surroundings.
+ * Drops get merged by item and nbt, instead of comparing each new drop against all previous ones.
+ * <p>
+ * Blasts with more blocks than configured in {@link de.dafuqs.spectrum.config.SpectrumConfig#ModularExplosionBlocksPerTick}
+ * are spread out over multiple ticks.
+ */
+public class BatchedExplosionProcessor {
+
+	// same stack size as the merging of ItemEntity.merge() used in per-block processing
+	private static final int MAX_MERGED_STACK_SIZE = 16;
+	private static final List<BatchedExplosionProcessor> PENDING = new ArrayList<>();
+
+	private final ServerWorld world;
+	private final @Nullable PlayerEntity owner;
+	private final BlockPos center;
+	private final ItemStack miningStack;
+	private final Explosion explosion;
+	private final Consumer<List<BlockPos>> onFinished;
+
+	private final Iterator<LongArrayList> sections;
+	private @Nullable LongArrayList currentSection;
+	private int currentSectionIndex;
+
+	private final LongOpenHashSet removedPositions = new LongOpenHashSet();
+	private final List<BlockPos> affectedBlocks = new ArrayList<>();
+	private final Map<DropKey, Drop> drops = new LinkedHashMap<>();
+
+	private BatchedExplosionProcessor(ServerWorld world, @Nullable PlayerEntity owner, BlockPos center, ItemStack miningStack, Explosion explosion, Long2ObjectMap<LongArrayList> sections, Consumer<List<BlockPos>> onFinished) {
+		this.world = world;
+		this.owner = owner;
+		this.center = center;
+		this.miningStack = miningStack;
+		this.explosion = explosion;
+		this.sections = sections.values().iterator();
+		this.onFinished = onFinished;
+	}
+
+	public static void process(@NotNull ServerWorld world, @Nullable PlayerEntity owner, BlockPos center, ExplosionShape shape, double blastRadius, ItemStack miningStack, Explosion explosion, Consumer<List<BlockPos>> onFinished) {
+		Long2ObjectLinkedOpenHashMap<LongArrayList> sections = new Long2ObjectLinkedOpenHashMap<>();
+		int blockCount = 0;
+		int radius = (int) blastRadius / 2;
+		for (BlockPos p : BlockPos.iterateOutwards(center, radius, radius, radius)) {
+			if (!GenericClaimModsCompat.canBreak(world, p, owner)) {
+				continue;
+			}
+			if (shape.isAffected(center, p)) {
+				sections.computeIfAbsent(ChunkSectionPos.toLong(p), section -> new LongArrayList()).add(p.asLong());
+				blockCount++;
+			}
+		}
+
+		BatchedExplosionProcessor processor = new BatchedExplosionProcessor(world, owner, center, miningStack, explosion, sections, onFinished);
+		int blocksPerTick = SpectrumCommon.CONFIG.ModularExplosionBlocksPerTick;
+		if (blocksPerTick <= 0 || blockCount <= blocksPerTick) {
+			processor.processBlocks(Integer.MAX_VALUE);
+			processor.finish();
+		} else if (processor.processBlocks(blocksPerTick)) {
+			processor.finish();
+		} else {
+			PENDING.add(processor);
+		}
+	}
+
+	public static void tickPending() {
+		if (PENDING.isEmpty()) {
+			return;
+		}
+
+		int blocksPerTick = Math.max(1, SpectrumCommon.CONFIG.ModularExplosionBlocksPerTick);
+		Iterator<BatchedExplosionProcessor> iterator = PENDING.iterator();
+		while (iterator.hasNext()) {
+			BatchedExplosionProcessor processor = iterator.next();
+			if (processor.processBlocks(blocksPerTick)) {
+				iterator.remove();
+				processor.finish();
+			}
+		}
+	}
+
+	public static void clear() {
+		PENDING.clear();
+	}
+
+	/**
+	 * @return true if all blocks have been processed
+	 */
+	private boolean processBlocks(int budget) {
+		Random random = this.world.random;
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+
+		while (budget > 0) {
+			if (this.currentSection == null || this.currentSectionIndex >= this.currentSection.size()) {
+				if (!this.sections.hasNext()) {
+					return true;
+				}
+				this.currentSection = this.sections.next();
+				this.currentSectionIndex = 0;
+			}
+
+			long packedPos = this.currentSection.getLong(this.currentSectionIndex++);
+			pos.set(packedPos);
+			budget--;
+
+			if (!this.world.isChunkLoaded(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()))) {
+				continue;
+			}
+			if (processBlock(random, pos)) {
+				this.removedPositions.add(packedPos);
+				this.affectedBlocks.add(pos.toImmutable());
+			}
+		}
+		return !this.sections.hasNext() && (this.currentSection == null || this.currentSectionIndex >= this.currentSection.size());
+	}
+
+	private boolean processBlock(Random random, BlockPos pos) {
+		BlockState state = this.world.getBlockState(pos);
+		Block block = state.getBlock();
+		if (block.getBlastResistance() > 9) {
+			return false;
+		}
+
+		if (random.nextFloat() < 0.15F) {
+			this.world.playSound(null, this.center.getX(), this.center.getY(), this.center.getZ(), block.getSoundGroup(state).getBreakSound(), SoundCategory.BLOCKS, 2F, 0.8F + random.nextFloat() * 0.5F);
+		}
+
+		if (block.shouldDropItemsOnExplosion(this.explosion)) {
+			BlockEntity blockEntity = state.hasBlockEntity() ? this.world.getBlockEntity(pos) : null;
+			LootContextParameterSet.Builder builder = new LootContextParameterSet.Builder(this.world)
+					.add(LootContextParameters.ORIGIN, Vec3d.ofCenter(pos))
+					.add(LootContextParameters.TOOL, this.miningStack)
+					.addOptional(LootContextParameters.BLOCK_ENTITY, blockEntity)
+					.addOptional(LootContextParameters.THIS_ENTITY, this.owner)
+					.add(LootContextParameters.EXPLOSION_RADIUS, ((ExplosionAccessor) this.explosion).getPower());
+			state.onStacksDropped(this.world, pos, this.miningStack, true);
+			for (ItemStack stack : state.getDroppedStacks(builder)) {
+				addDrop(stack, pos);
+			}
+		}
+
+		// neighbor and shape updates are deferred until the whole blast has been processed
+		this.world.setBlockState(pos, this.world.getFluidState(pos).getBlockState(), Block.NOTIFY_LISTENERS | Block.FORCE_STATE);
+		block.onDestroyedByExplosion(this.world, pos, this.explosion);
+		return true;
+	}
+
+	private void addDrop(ItemStack stack, BlockPos pos) {
+		if (stack.isEmpty()) {
+			return;
+		}
+		this.drops.computeIfAbsent(new DropKey(stack.getItem(), stack.getNbt()), key -> new Drop(stack.copyWithCount(1), pos.toImmutable())).count += stack.getCount();
+	}
+
+	private void finish() {
+		updateBlastEdges();
+		dropItems();
+		this.onFinished.accept(this.affectedBlocks);
+	}
+
+	private void updateBlastEdges() {
+		BlockPos.Mutable neighborPos = new BlockPos.Mutable();
+		for (BlockPos pos : this.affectedBlocks) {
+			boolean isEdge = false;
+			for (Direction direction : Direction.values()) {
+				neighborPos.set(pos, direction);
+				if (!this.removedPositions.contains(neighborPos.asLong())) {
+					isEdge = true;
+					break;
+				}
+			}
+
+			if (isEdge) {
+				BlockState state = this.world.getBlockState(pos);
+				this.world.updateNeighbors(pos, state.getBlock());
+				state.updateNeighbors(this.world, pos, Block.NOTIFY_ALL);
+			}
+		}
+	}
+
+	private void dropItems() {
+		boolean hasInventoryInsertion = this.owner != null && SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INVENTORY_INSERTION, this.miningStack) > 0;
+		for (Drop drop : this.drops.values()) {
+			int maxCount = Math.min(MAX_MERGED_STACK_SIZE, drop.template.getMaxCount());
+			int remaining = drop.count;
+			while (remaining > 0) {
+				int count = Math.min(remaining, maxCount);
+				remaining -= count;
+				ItemStack stack = drop.template.copyWithCount(count);
+				if (hasInventoryInsertion) {
+					this.owner.getInventory().offerOrDrop(stack);
+				} else {
+					Block.dropStack(this.world, drop.pos, stack);
+				}
+			}
+		}
+	}
+
+	private record DropKey(Item item, @Nullable NbtCompound nbt) {
+	}
+
+	private static class Drop {
+
+		private final ItemStack template;
+		private final BlockPos pos;
+		private int count;
+
+		private Drop(ItemStack template, BlockPos pos) {
+			this.template = template;
+			this.pos = pos;
+		}
+
+	}
+
+}
@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.explosion;
 
 import com.mojang.datafixers.util.*;
+import de.dafuqs.spectrum.*;
 import de.dafuqs.spectrum.compat.claims.*;
 import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.mixin.accessors.*;
@@ -24,6 +25,7 @@ import net.minecraft.world.explosion.*;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.function.*;
 
 public class ModularExplosion {
 	
@@ -88,11 +90,11 @@ public class ModularExplosion {
 			}
 		}
 		if (archetype.affectsBlocks) {
-			List<BlockPos> affectedBlocks = processExplosion(world, owner, pos, shape, blastRadius, miningStack);
-			
-			for (ExplosionModifier explosionEffect : modifiers) {
-				explosionEffect.applyToBlocks(world, affectedBlocks);
-			}
+			processExplosion(world, owner, pos, shape, blastRadius, miningStack, affectedBlocks -> {
+				for (ExplosionModifier explosionEffect : modifiers) {
+					explosionEffect.applyToBlocks(world, affectedBlocks);
+				}
+			});
 		}
 	}
 	
@@ -118,9 +120,17 @@ public class ModularExplosion {
 		}
 	}
 	
-	private static List<BlockPos> processExplosion(@NotNull ServerWorld world, @Nullable PlayerEntity owner, BlockPos center, ExplosionShape shape, double blastRadius, ItemStack miningStack) {
+	private static void processExplosion(@NotNull ServerWorld world, @Nullable PlayerEntity owner, BlockPos center, ExplosionShape shape, double blastRadius, ItemStack miningStack, Consumer<List<BlockPos>> onFinished) {
 		Explosion explosion = new Explosion(world, owner, center.getX(), center.getY(), center.getZ(), (float) blastRadius, false, Explosion.DestructionType.DESTROY);
 		
+		if (SpectrumCommon.CONFIG.ModularExplosionBatchedBlockProcessing) {
+			BatchedExplosionProcessor.process(world, owner, center, shape, blastRadius, miningStack, explosion, onFinished);
+		} else {
+			onFinished.accept(processExplosionPerBlock(world, owner, center, shape, blastRadius, miningStack, explosion));
+		}
+	}
+	
+	private static List<BlockPos> processExplosionPerBlock(@NotNull ServerWorld world, @Nullable PlayerEntity owner, BlockPos center, ExplosionShape shape, double blastRadius, ItemStack miningStack, Explosion explosion) {
 		ObjectArrayList<Pair<ItemStack, BlockPos>> drops = new ObjectArrayList<>();
 		List<BlockPos> affectedBlocks = new ArrayList<>();
 		int radius = (int) blastRadius / 2;
@@ -133,7 +143,7 @@ public class ModularExplosion {
 			}
 		}
 		
-		boolean hasInventoryInsertion = EnchantmentHelper.getLevel(SpectrumEnchantments.INVENTORY_INSERTION, miningStack) > 0;
+		boolean hasInventoryInsertion = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INVENTORY_INSERTION, miningStack) > 0;
 		for (Pair<ItemStack, BlockPos> stackPosPair : drops) {
 			if (owner != null && hasInventoryInsertion) {
 				owner.getInventory().offerOrDrop(stackPosPair.getFirst());
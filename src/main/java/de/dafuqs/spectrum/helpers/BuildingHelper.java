@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.helpers;
 
 import de.dafuqs.spectrum.api.interaction.*;
+import it.unimi.dsi.fastutil.longs.*;
 import net.minecraft.block.*;
 import net.minecraft.entity.player.*;
 import net.minecraft.item.*;
@@ -36,6 +37,16 @@ public class BuildingHelper {
 		add(Direction.SOUTH.getVector().offset(Direction.WEST));
 	}};
 	
+	private static final Map<Direction, List<Vec3i>> NEIGHBOR_VECTORS_HORIZONTAL = new EnumMap<>(Direction.class) {{
+		for (Direction direction : Direction.Type.HORIZONTAL) {
+			put(direction, List.of(
+					direction.rotateYClockwise().getVector(),
+					direction.rotateYCounterclockwise().getVector(),
+					Direction.UP.getVector(),
+					Direction.DOWN.getVector()));
+		}
+	}};
+	
 	public static Triplet<Block, Item, Integer> getBuildingItemCountInInventoryIncludingSimilars(PlayerEntity player, Block block, long maxCount) {
 		Item blockItem = block.asItem();
 		if (blockItem instanceof AliasedBlockItem aliasedBlockItem) {
@@ -64,18 +75,19 @@ public class BuildingHelper {
 	}
 
 	/**
-	 * A simple implementation of a breadth first search
+	 * A simple implementation of a breadth first search.
+	 * Visited positions are tracked as packed longs, so checking them does not get slower the larger the selection grows
 	 */
 	public static @NotNull List<BlockPos> getConnectedBlocks(@NotNull World world, @NotNull BlockPos blockPos, long maxCount, int maxRange) {
 		BlockState originState = world.getBlockState(blockPos);
 		Block originBlock = originState.getBlock();
 
 		ArrayList<BlockPos> connectedPositions = new ArrayList<>();
-		ArrayList<BlockPos> visitedPositions = new ArrayList<>();
-		Queue<BlockPos> positionsToVisit = new LinkedList<>();
+		LongSet visitedPositions = new LongOpenHashSet();
+		Queue<BlockPos> positionsToVisit = new ArrayDeque<>();
 
 		connectedPositions.add(blockPos);
-		visitedPositions.add(blockPos);
+		visitedPositions.add(blockPos.asLong());
 		positionsToVisit.add(blockPos);
 		while (connectedPositions.size() < maxCount) {
 			BlockPos currentPos = positionsToVisit.poll();
@@ -84,8 +96,7 @@ public class BuildingHelper {
 			} else {
 				for (Direction direction : Direction.values()) {
 					BlockPos offsetPos = currentPos.offset(direction);
-					if (!visitedPositions.contains(offsetPos)) {
-						visitedPositions.add(offsetPos);
+					if (visitedPositions.add(offsetPos.asLong())) {
 						if (blockPos.isWithinDistance(offsetPos, maxRange)) {
 							Block localBlock = world.getBlockState(offsetPos).getBlock();
 							if (getSimilarBlocks(localBlock).contains(originBlock)) {
@@ -109,11 +120,14 @@ public class BuildingHelper {
 		BlockState originState = world.getBlockState(originPos);
 		
 		List<BlockPos> selectedPositions = new ArrayList<>();
+		// every position that got selected or queued so far
+		LongSet knownPositions = new LongOpenHashSet();
 		int count = 1;
 		
 		List<BlockPos> storedNeighbors = new ArrayList<>();
 		if (world.canPlace(originState, offsetPos, ShapeContext.absent())) {
 			storedNeighbors.add(offsetPos);
+			knownPositions.add(offsetPos.asLong());
 		}
 		
 		while (count < maxCount && !storedNeighbors.isEmpty()) {
@@ -126,8 +140,7 @@ public class BuildingHelper {
 
 				for (BlockPos facingNeighbor : facingNeighbors) {
 					if (count < maxCount && originPos.isWithinDistance(facingNeighbor, maxRange)) {
-						if (!selectedPositions.contains(facingNeighbor) && !storedNeighbors.contains(facingNeighbor)
-								&& !newNeighbors.contains(facingNeighbor)) {
+						if (knownPositions.add(facingNeighbor.asLong())) {
 							newNeighbors.add(facingNeighbor);
 							count++;
 						}
@@ -169,14 +182,7 @@ public class BuildingHelper {
 		if (direction.getAxis() == Direction.Axis.Y) {
 			return NEIGHBOR_VECTORS_Y;
 		} else {
-			return new ArrayList<>() {
-				{
-					add(direction.rotateYClockwise().getVector());
-					add(direction.rotateYCounterclockwise().getVector());
-					add(Direction.UP.getVector());
-					add(Direction.DOWN.getVector());
-				}
-			};
+			return NEIGHBOR_VECTORS_HORIZONTAL.get(direction);
 		}
 	}
 	
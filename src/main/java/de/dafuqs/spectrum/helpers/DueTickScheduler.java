@@ -0,0 +1,164 @@
+package de.dafuqs.spectrum.helpers;
+
+import it.unimi.dsi.fastutil.longs.*;
+import it.unimi.dsi.fastutil.objects.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * Drop-in alternative to {@link SchedulerMap} that does not need to touch every entry each tick.
+ * Entries are bucketed by the tick they are due on, so a tick only does work for the entries that actually expire.
+ * <p>
+ * Timing semantics match SchedulerMap: an entry put with x ticks triggers on the (x+1)th call to {@link #tick()}.
+ * {@link SchedulerMap.Freezable} entries can pause at any time, so they are still counted down each tick individually.
+ */
+public class DueTickScheduler<K> implements Iterable<K> {
+
+    private long currentTick = 0;
+    private final Long2ObjectMap<List<K>> entriesByDueTick = new Long2ObjectOpenHashMap<>();
+    private final Object2LongMap<K> dueTicks = new Object2LongOpenHashMap<>();
+    private final Object2IntMap<K> freezables = new Object2IntLinkedOpenHashMap<>();
+
+    public void put(K val, int ticks) {
+        remove(val);
+        if (val instanceof SchedulerMap.Freezable) {
+            this.freezables.put(val, ticks);
+            return;
+        }
+
+        long dueTick = this.currentTick + Math.max(ticks, 0) + 1;
+        this.dueTicks.put(val, dueTick);
+        this.entriesByDueTick.computeIfAbsent(dueTick, tick -> new ArrayList<>(1)).add(val);
+    }
+
+    public boolean remove(K val) {
+        if (this.freezables.containsKey(val)) {
+            this.freezables.removeInt(val);
+            return true;
+        }
+        if (!this.dueTicks.containsKey(val)) {
+            return false;
+        }
+
+        long dueTick = this.dueTicks.removeLong(val);
+        List<K> entries = this.entriesByDueTick.get(dueTick);
+        if (entries != null) {
+            entries.remove(val);
+            if (entries.isEmpty()) {
+                this.entriesByDueTick.remove(dueTick);
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        this.entriesByDueTick.clear();
+        this.dueTicks.clear();
+        this.freezables.clear();
+    }
+
+    public boolean containsKey(K val) {
+        return this.dueTicks.containsKey(val) || this.freezables.containsKey(val);
+    }
+
+    public boolean isEmpty() {
+        return this.dueTicks.isEmpty() && this.freezables.isEmpty();
+    }
+
+    /**
+     * @return the remaining ticks, like the value that would be stored in a {@link SchedulerMap}
+     */
+    public int get(K val) {
+        if (this.freezables.containsKey(val)) {
+            return this.freezables.getInt(val);
+        }
+        return (int) (this.dueTicks.getLong(val) - this.currentTick - 1);
+    }
+
+    public final int size() {
+        return this.dueTicks.size() + this.freezables.size();
+    }
+
+    public void tick() {
+        List<K> dueEntries = tickAndGetDue();
+        if (dueEntries != null) {
+            for (K key : dueEntries) {
+                if (key instanceof SchedulerMap.Callback callback) {
+                    callback.trigger();
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances by a tick like {@link #tick()}, but hands the entries that became due back instead of triggering them.
+     * {@link SchedulerMap.Freezable} entries still trigger themselves.
+     *
+     * @return the entries that became due this tick, or null if there are none. They are already removed from the scheduler
+     */
+    public @Nullable List<K> tickAndGetDue() {
+        this.currentTick++;
+
+        if (!this.freezables.isEmpty()) {
+            tickFreezables();
+        }
+
+        if (this.entriesByDueTick.isEmpty()) {
+            return null;
+        }
+        List<K> dueEntries = this.entriesByDueTick.remove(this.currentTick);
+        if (dueEntries != null) {
+            for (K key : dueEntries) {
+                this.dueTicks.removeLong(key);
+            }
+        }
+        return dueEntries;
+    }
+
+    private void tickFreezables() {
+        List<K> dueEntries = null;
+        ObjectIterator<Object2IntMap.Entry<K>> iterator = Object2IntMaps.fastIterator(this.freezables);
+        while (iterator.hasNext()) {
+            Object2IntMap.Entry<K> next = iterator.next();
+            K key = next.getKey();
+            if (((SchedulerMap.Freezable) key).isFrozen()) {
+                continue;
+            }
+
+            int remainingTicks = next.getIntValue();
+            if (remainingTicks >= 1) {
+                next.setValue(remainingTicks - 1);
+            } else {
+                if (dueEntries == null) {
+                    dueEntries = new ArrayList<>();
+                }
+                dueEntries.add(key);
+                iterator.remove();
+            }
+        }
+
+        if (dueEntries != null) {
+            for (K key : dueEntries) {
+                ((SchedulerMap.Freezable) key).trigger();
+            }
+        }
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+        if (this.freezables.isEmpty()) {
+            return this.dueTicks.keySet().iterator();
+        }
+        List<K> keys = new ArrayList<>(size());
+        keys.addAll(this.dueTicks.keySet());
+        keys.addAll(this.freezables.keySet());
+        return keys.iterator();
+    }
+
+    @Override
+    public final String toString() {
+        return "DueTickScheduler (" + size() + " entries, tick " + this.currentTick + ")";
+    }
+
+}
@@ -3,6 +3,7 @@ package de.dafuqs.spectrum.helpers;
 import de.dafuqs.spectrum.api.item.*;
 import de.dafuqs.spectrum.enchantments.*;
 import de.dafuqs.spectrum.registries.*;
+import it.unimi.dsi.fastutil.objects.*;
 import net.minecraft.enchantment.*;
 import net.minecraft.entity.*;
 import net.minecraft.item.*;
@@ -15,6 +16,33 @@ import java.util.*;
 
 public class SpectrumEnchantmentHelper {
 	
+	/**
+	 * Like {@link EnchantmentHelper#getLevel(Enchantment, ItemStack)}, but reuses the enchantments parsed from the stack's nbt
+	 * as long as they did not change. Meant for checks that run each tick or for each dropped item
+	 *
+	 * @param enchantment the enchantment to query
+	 * @param stack       the stack to check
+	 * @return the level of the enchantment on the stack, 0 if it is not present
+	 */
+	public static int getLevel(Enchantment enchantment, ItemStack stack) {
+		if (stack.isOf(Items.ENCHANTED_BOOK)) {
+			// vanilla ignores the stored enchantments of books here, unlike EnchantmentHelper.get()
+			return EnchantmentHelper.getLevel(enchantment, stack);
+		}
+		return getEnchantmentLevels(stack).getInt(enchantment);
+	}
+	
+	/**
+	 * Like {@link EnchantmentHelper#get(ItemStack)}, but reuses the enchantments parsed from the stack's nbt
+	 * as long as they did not change. The returned map must not be modified
+	 *
+	 * @param stack the stack to check
+	 * @return all enchantments of the stack with their levels
+	 */
+	public static Object2IntMap<Enchantment> getEnchantmentLevels(ItemStack stack) {
+		return ((EnchantmentLevelCache) (Object) stack).spectrum$getEnchantmentLevels();
+	}
+	
 	/**
 	 * Adds an enchantment to an ItemStack. If the stack already has that enchantment, it gets upgraded instead
 	 *
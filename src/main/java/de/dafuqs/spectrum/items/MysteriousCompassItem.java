@@ -22,7 +22,7 @@ public class MysteriousCompassItem extends StructureCompassItem implements SlotB
 	
 	@Override
 	public void inventoryTick(@NotNull ItemStack stack, @NotNull World world, Entity entity, int slot, boolean selected) {
-		if (!world.isClient && world.getTime() % 200 == 0 && entity instanceof PlayerEntity player)
+		if (!world.isClient && isLookupTick(world, entity) && entity instanceof PlayerEntity player)
 			if(AdvancementHelper.hasAdvancement(player, REQUIRED_ADVANCEMENT)) {
 				locateStructure(stack, world, entity);
 			} else {
@@ -125,7 +125,7 @@ public class EnderSpliceItem extends Item implements ExtendedEnchantable {
 		} else if (user instanceof ServerPlayerEntity playerEntity) {
 			Criteria.CONSUME_ITEM.trigger(playerEntity, itemStack);
 			
-			boolean resonance = EnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, itemStack) > 0;
+			boolean resonance = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, itemStack) > 0;
 			
 			// If Dimension & Pos stored => Teleport to that position
 			Optional<Pair<String, Vec3d>> teleportTargetPos = getTeleportTargetPos(itemStack);
@@ -155,7 +155,7 @@ public class EnderSpliceItem extends Item implements ExtendedEnchantable {
 	}
 	
 	private static void decrementWithChance(ItemStack itemStack, World world, ServerPlayerEntity playerEntity) {
-		if (EnchantmentHelper.getLevel(SpectrumEnchantments.INDESTRUCTIBLE, itemStack) > 0) {
+		if (SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INDESTRUCTIBLE, itemStack) > 0) {
 			return;
 		}
 		if (!playerEntity.getAbilities().creativeMode) {
@@ -3,6 +3,7 @@ package de.dafuqs.spectrum.items.magic_items;
 import com.mojang.datafixers.util.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.entity.*;
+import net.minecraft.entity.player.*;
 import net.minecraft.item.*;
 import net.minecraft.nbt.*;
 import net.minecraft.registry.*;
@@ -15,9 +16,12 @@ import net.minecraft.world.gen.structure.*;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 public class StructureCompassItem extends CompassItem {
 	
+	protected static final int LOOKUP_INTERVAL = 200;
+	
 	protected final TagKey<Structure> locatedStructures;
 	
 	public StructureCompassItem(Settings settings, TagKey<Structure> locatedStructures) {
@@ -27,15 +31,41 @@ public class StructureCompassItem extends CompassItem {
 	
 	@Override
 	public void inventoryTick(@NotNull ItemStack stack, @NotNull World world, Entity entity, int slot, boolean selected) {
-		if (!world.isClient && world.getTime() % 200 == 0) {
+		if (!world.isClient && isLookupTick(world, entity)) {
 			locateStructure(stack, world, entity);
 		}
 	}
+	
+	// spread the lookups of different holders over the interval, instead of doing them all in the same tick
+	protected static boolean isLookupTick(@NotNull World world, @NotNull Entity entity) {
+		return (world.getTime() + entity.getId()) % LOOKUP_INTERVAL == 0;
+	}
 
 	protected void locateStructure(@NotNull ItemStack stack, @NotNull World world, Entity entity) {
-		Pair<BlockPos, RegistryEntry<Structure>> foundStructure = locateStructure((ServerWorld) world, entity.getBlockPos());
-		if (foundStructure != null) {
-			saveStructurePos(stack, world.getRegistryKey(), foundStructure.getFirst());
+		CompletableFuture<Optional<BlockPos>> lookup = StructureCompassLocator.locate((ServerWorld) world, this.locatedStructures, entity.getBlockPos());
+		if (lookup.isDone()) {
+			lookup.thenAccept(foundPos -> updateStructurePos(stack, world.getRegistryKey(), foundPos));
+		} else if (entity instanceof PlayerEntity player) {
+			// the stack may have been moved, dropped or split by the time the lookup finishes,
+			// so update the compasses the player is holding then instead
+			lookup.thenAccept(foundPos -> {
+				if (player.isRemoved() || player.getWorld() != world) {
+					return;
+				}
+				PlayerInventory inventory = player.getInventory();
+				for (int i = 0; i < inventory.size(); i++) {
+					ItemStack inventoryStack = inventory.getStack(i);
+					if (inventoryStack.isOf(this)) {
+						updateStructurePos(inventoryStack, world.getRegistryKey(), foundPos);
+					}
+				}
+			});
+		}
+	}
+	
+	protected void updateStructurePos(@NotNull ItemStack stack, @NotNull RegistryKey<World> worldKey, Optional<BlockPos> foundPos) {
+		if (foundPos.isPresent()) {
+			saveStructurePos(stack, worldKey, foundPos.get());
 		} else {
 			removeStructurePos(stack);
 		}
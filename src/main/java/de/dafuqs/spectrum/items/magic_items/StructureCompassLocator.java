@@ -0,0 +1,111 @@
+package de.dafuqs.spectrum.items.magic_items;
+
+import com.mojang.datafixers.util.*;
+import de.dafuqs.spectrum.*;
+import de.dafuqs.spectrum.registries.*;
+import net.minecraft.registry.*;
+import net.minecraft.registry.entry.*;
+import net.minecraft.registry.tag.*;
+import net.minecraft.server.world.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+import net.minecraft.world.gen.structure.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Structure lookups of {@link StructureCompassItem}s. Their results are shared by all compasses searching
+ * for the same structures from the same region of a world. Structures do not move, so results never go stale:
+ * a compass only needs a new lookup once it got carried into another region.
+ * <p>
+ * Lookups search like the /locate command does, which is only safe on the server thread.
+ * Instead of searching right when a compass asks, lookups get queued and {@link #tickPending()}
+ * runs at most {@link #MAX_LOOKUPS_PER_TICK} of them each tick.
+ */
+public class StructureCompassLocator {
+
+	private static final int SEARCH_RADIUS = 100;
+	// size of the regions that share a result, in chunks
+	private static final int REGION_SIZE = 8;
+	private static final int MAX_CACHED_RESULTS = 4096;
+	private static final int MAX_LOOKUPS_PER_TICK = 1;
+	private static final Map<LookupKey, CompletableFuture<Optional<BlockPos>>> RESULTS = new HashMap<>();
+	private static final Queue<PendingLookup> PENDING_LOOKUPS = new ArrayDeque<>();
+
+	/**
+	 * Looks up the closest structure of the tag around the region pos lies in.
+	 * Lookups that already finished or are still queued for that region get reused.
+	 * Has to be called on the server thread. The returned future gets completed there, too.
+	 *
+	 * @return the position of the found structure, or empty if there is none in range
+	 */
+	public static CompletableFuture<Optional<BlockPos>> locate(ServerWorld world, TagKey<Structure> structures, BlockPos pos) {
+		int regionX = Math.floorDiv(ChunkSectionPos.getSectionCoord(pos.getX()), REGION_SIZE);
+		int regionZ = Math.floorDiv(ChunkSectionPos.getSectionCoord(pos.getZ()), REGION_SIZE);
+		LookupKey key = new LookupKey(world.getRegistryKey(), structures, ChunkPos.toLong(regionX, regionZ));
+		CompletableFuture<Optional<BlockPos>> result = RESULTS.get(key);
+		if (result != null) {
+			return result;
+		}
+
+		Optional<RegistryEntryList.Named<Structure>> entries = SpectrumStructureTags.entriesOf(world, structures);
+		if (entries.isEmpty()) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		if (RESULTS.size() >= MAX_CACHED_RESULTS) {
+			// keep the queued lookups, compasses are still waiting for them
+			RESULTS.values().removeIf(CompletableFuture::isDone);
+		}
+		BlockPos regionCenter = new BlockPos(
+				ChunkSectionPos.getOffsetPos(regionX * REGION_SIZE + REGION_SIZE / 2, 8),
+				pos.getY(),
+				ChunkSectionPos.getOffsetPos(regionZ * REGION_SIZE + REGION_SIZE / 2, 8));
+		CompletableFuture<Optional<BlockPos>> lookup = new CompletableFuture<>();
+		RESULTS.put(key, lookup);
+		PENDING_LOOKUPS.add(new PendingLookup(key, world, entries.get(), regionCenter, lookup));
+		return lookup;
+	}
+
+	/**
+	 * Runs the next queued lookups. Called at the end of each server tick
+	 */
+	public static void tickPending() {
+		for (int i = 0; i < MAX_LOOKUPS_PER_TICK; i++) {
+			PendingLookup pendingLookup = PENDING_LOOKUPS.poll();
+			if (pendingLookup == null) {
+				return;
+			}
+			pendingLookup.run();
+		}
+	}
+
+	/**
+	 * Forgets all results and drops the queued lookups of the stopped server
+	 */
+	public static void clearCache() {
+		PENDING_LOOKUPS.clear();
+		RESULTS.clear();
+	}
+
+	private record LookupKey(RegistryKey<World> world, TagKey<Structure> structures, long region) {
+	}
+
+	private record PendingLookup(LookupKey key, ServerWorld world, RegistryEntryList.Named<Structure> entries, BlockPos regionCenter, CompletableFuture<Optional<BlockPos>> lookup) {
+
+		private void run() {
+			try {
+				Pair<BlockPos, RegistryEntry<Structure>> foundStructure = world.getChunkManager().getChunkGenerator().locateStructure(world, entries, regionCenter, SEARCH_RADIUS, false);
+				lookup.complete(Optional.ofNullable(foundStructure).map(Pair::getFirst));
+			} catch (Exception e) {
+				// failed lookups get retried the next time a compass asks for them
+				SpectrumCommon.logError("Structure lookup for " + key.structures().id() + " failed: " + e.getMessage());
+				RESULTS.remove(key, lookup);
+				lookup.completeExceptionally(e);
+			}
+		}
+
+	}
+
+}
@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.items.map;
 
 import de.dafuqs.spectrum.*;
+import it.unimi.dsi.fastutil.longs.*;
 import net.minecraft.registry.*;
 import net.minecraft.registry.entry.*;
 import net.minecraft.server.*;
@@ -20,8 +21,28 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 
+/**
+ * Searches chunks for a structure in rings around a center, without blocking the server thread for the whole search.
+ * <p>
+ * All searches share a small pool of worker threads. The actual per-chunk lookups run on the server thread,
+ * and their results get remembered per world, so repeated and overlapping searches do not look at the same chunk twice.
+ * Found targets are always handed to the acceptor on the server thread.
+ * <p>
+ * A search gives up its worker after each time slice and gets queued again,
+ * so searches started while all workers are busy do not wait for the running ones to finish.
+ */
 public class StructureLocatorAsync {
 
+    private static final int MAX_WORKER_THREADS = 2;
+    // searched chunks per world and structure. Reset when too large, since a single search can cover thousands of chunks
+    private static final int MAX_CACHED_CHUNKS_PER_STRUCTURE = 65536;
+    private static final long MAX_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final AtomicInteger WORKER_THREAD_COUNT = new AtomicInteger(0);
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+    private static final Map<RegistryKey<World>, Map<Identifier, Long2BooleanMap>> SEARCHED_CHUNKS = new ConcurrentHashMap<>();
+    // searches that did not finish yet, so they can be stopped together with the server
+    private static final Set<Search> LIVE_SEARCHES = ConcurrentHashMap.newKeySet();
+
     private final MinecraftServer server;
     private final ServerWorld world;
     private final StructureLocatorAsync.Acceptor acceptor;
@@ -31,7 +52,7 @@ public class StructureLocatorAsync {
     private RegistryEntry<Structure> registryEntry;
 
     @Nullable
-    private LocatorThread thread;
+    private Search search;
     private int radius;
 
     public StructureLocatorAsync(ServerWorld world, StructureLocatorAsync.Acceptor acceptor, Identifier targetId, ChunkPos center, int maxRadius) {
@@ -42,26 +63,58 @@ public class StructureLocatorAsync {
         this.center = center;
         this.maxRadius = maxRadius;
 
-        thread = null;
+        search = null;
         radius = 1;
 
         start();
     }
 
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_WORKER_THREADS, MAX_WORKER_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Structure Locator #" + WORKER_THREAD_COUNT.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(SpectrumCommon.LOGGER));
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Forgets all searched chunks
+     */
+    public static void clearCache() {
+        SEARCHED_CHUNKS.clear();
+    }
+
+    /**
+     * Stops all searches. Called when the server stops, since their chunk lookups would never run anymore
+     */
+    public static void cancelAll() {
+        for (Search search : LIVE_SEARCHES) {
+            search.cancel();
+            EXECUTOR.remove(search);
+        }
+        LIVE_SEARCHES.clear();
+    }
+
     private void start() {
-        thread = new LocatorThread();
-        thread.start();
+        search = new Search(center, radius);
+        LIVE_SEARCHES.add(search);
+        EXECUTOR.execute(search);
     }
 
     public void move(int deltaX, int deltaZ) {
         if (deltaX == 0 && deltaZ == 0) return;
 
+        // continue from the ring the previous search reached
+        int reachedRadius = search == null ? radius : search.radius;
         cancel();
 
         // If we move two chunks in a direction, continuing at the same radius would skip a strip of chunks.
         // So, we reduce the radius to make sure nothing is skipped. Of course, outer chunks would get
         // skipped regardless.
-        radius -= Math.max(Math.abs(deltaX), Math.abs(deltaZ));
+        radius = reachedRadius - Math.max(Math.abs(deltaX), Math.abs(deltaZ));
         if (radius < 1) radius = 1;
 
         center = new ChunkPos(center.x + deltaX, center.z + deltaZ);
@@ -69,63 +122,86 @@ public class StructureLocatorAsync {
         start();
     }
 
+    /**
+     * Stops the current search. No more targets get accepted once this returns
+     */
     public void cancel() {
-        if (thread == null) return;
+        if (search == null) return;
 
-        thread.stopRunning();
-        thread.interrupt();
-
-        while (true) {
-            try {
-                thread.join();
-            } catch (InterruptedException ignored) {
-                continue;
-            }
-            break;
-        }
+        search.cancel();
+        EXECUTOR.remove(search);
+        LIVE_SEARCHES.remove(search);
+        search = null;
+    }
 
-        thread = null;
+    private Long2BooleanMap getSearchedChunks() {
+        return SEARCHED_CHUNKS
+                .computeIfAbsent(world.getRegistryKey(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetId, id -> Long2BooleanMaps.synchronize(new Long2BooleanOpenHashMap()));
     }
 
-    private class LocatorThread extends Thread {
+    private class Search implements Runnable {
 
         private static final int MAX_RUNNING_TASKS = 32;
-        private static final AtomicInteger currentRunningThreads = new AtomicInteger(0);
 
         private final Semaphore semaphore;
-        private boolean running;
-        private boolean ringHadTargets;
-
-        public LocatorThread() {
-            super("Structure Locator #" + currentRunningThreads.getAndIncrement());
-            setUncaughtExceptionHandler(new UncaughtExceptionLogger(SpectrumCommon.LOGGER));
+        private final ChunkPos center;
+        private volatile boolean cancelled;
+        private volatile int radius;
+        private volatile boolean ringHadTargets;
+        private boolean started;
+
+        public Search(ChunkPos center, int radius) {
+            this.center = center;
+            this.radius = radius;
             semaphore = new Semaphore(MAX_RUNNING_TASKS);
         }
 
-        public void stopRunning() {
-            running = false;
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+            }
         }
 
         @Override
         public void run() {
-            running = true;
-            ringHadTargets = false;
-
-            registryEntry = getRegistryEntry();
-            if (registryEntry == null) return;
+            if (!started) {
+                started = true;
+                ringHadTargets = false;
+
+                registryEntry = getRegistryEntry();
+                if (registryEntry == null) {
+                    LIVE_SEARCHES.remove(this);
+                    return;
+                }
 
-            checkConcentricRingsStructures();
+                checkConcentricRingsStructures();
+            }
 
-            while(running && !ringHadTargets && radius <= maxRadius) {
-                for (int i = 0; running && i < radius * 2; i++) {
-                    searchChunk(center.x - radius + i, center.z + radius);     // Top-left     -> Top-right
-                    searchChunk(center.x + radius,     center.z + radius - i); // Top-right    -> Bottom-right
-                    searchChunk(center.x + radius - i, center.z - radius);     // Bottom-right -> Bottom-left
-                    searchChunk(center.x - radius,     center.z - radius + i); // Bottom-left  -> Top-left
+            long sliceStart = System.nanoTime();
+            Long2BooleanMap searchedChunks = getSearchedChunks();
+            while(!cancelled && !ringHadTargets && radius <= maxRadius) {
+                for (int i = 0; !cancelled && i < radius * 2; i++) {
+                    searchChunk(searchedChunks, center.x - radius + i, center.z + radius);     // Top-left     -> Top-right
+                    searchChunk(searchedChunks, center.x + radius,     center.z + radius - i); // Top-right    -> Bottom-right
+                    searchChunk(searchedChunks, center.x + radius - i, center.z - radius);     // Bottom-right -> Bottom-left
+                    searchChunk(searchedChunks, center.x - radius,     center.z - radius + i); // Bottom-left  -> Top-left
                 }
 
                 radius++;
+
+                // continue with the next ring once other queued searches had their turn
+                if (System.nanoTime() - sliceStart > MAX_SLICE_NANOS) {
+                    synchronized (this) {
+                        if (!cancelled) {
+                            EXECUTOR.execute(this);
+                            return;
+                        }
+                    }
+                    break;
+                }
             }
+            LIVE_SEARCHES.remove(this);
         }
 
         private RegistryEntry<Structure> getRegistryEntry() {
@@ -166,19 +242,44 @@ public class StructureLocatorAsync {
             }
         }
 
-        private void searchChunk(int x, int z) {
-            while (running) {
+        private void searchChunk(Long2BooleanMap searchedChunks, int x, int z) {
+            long chunkPosLong = ChunkPos.toLong(x, z);
+            synchronized (searchedChunks) {
+                if (searchedChunks.containsKey(chunkPosLong)) {
+                    if (searchedChunks.get(chunkPosLong)) {
+                        acceptTarget(new ChunkPos(x, z));
+                    }
+                    return;
+                }
+            }
+
+            while (!cancelled) {
+                // the server does not process tasks anymore, so no permit would ever be released
+                if (!server.isRunning()) {
+                    cancel();
+                    return;
+                }
                 try {
-                    semaphore.acquire();
+                    if (!semaphore.tryAcquire(1, TimeUnit.SECONDS)) {
+                        continue;
+                    }
                 } catch (InterruptedException ignored) {
                     continue;
                 }
 
                 server.send(new ServerTask(server.getTicks(), () -> {
-                    ChunkPos chunkPos = new ChunkPos(x, z);
-                    StructureStart target = locateStructureAtChunk(chunkPos);
-                    if (target != null) {
-                        acceptTarget(chunkPos);
+                    if (!cancelled) {
+                        ChunkPos chunkPos = new ChunkPos(x, z);
+                        boolean hasTarget = locateStructureAtChunk(chunkPos) != null;
+                        synchronized (searchedChunks) {
+                            if (searchedChunks.size() >= MAX_CACHED_CHUNKS_PER_STRUCTURE) {
+                                searchedChunks.clear();
+                            }
+                            searchedChunks.put(chunkPosLong, hasTarget);
+                        }
+                        if (hasTarget) {
+                            acceptTarget(chunkPos);
+                        }
                     }
                     semaphore.release();
                 }));
@@ -201,8 +302,21 @@ public class StructureLocatorAsync {
         
         private void acceptTarget(ChunkPos target) {
             synchronized (this) {
-                if (running) {
-                    ringHadTargets = true;
+                if (cancelled) return;
+                ringHadTargets = true;
+            }
+
+            // the acceptor changes the atlas state, which the server thread reads as well
+            if (server.isOnThread()) {
+                acceptTargetOnServerThread(target);
+            } else {
+                server.send(new ServerTask(server.getTicks(), () -> acceptTargetOnServerThread(target)));
+            }
+        }
+
+        private void acceptTargetOnServerThread(ChunkPos target) {
+            synchronized (this) {
+                if (!cancelled) {
                     acceptor.accept(world, target);
                 }
             }
@@ -4,6 +4,7 @@ import de.dafuqs.spectrum.api.energy.*;
 import de.dafuqs.spectrum.api.energy.color.*;
 import de.dafuqs.spectrum.api.render.*;
 import de.dafuqs.spectrum.entity.entity.*;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.client.item.*;
 import net.minecraft.enchantment.*;
@@ -73,7 +74,7 @@ public class GlassCrestWorkstaffItem extends WorkstaffItem implements SlotBackgr
 	
 	@Override
 	public int getBackgroundColor(@Nullable PlayerEntity player, ItemStack stack, float tickDelta) {
-		var resonance = EnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, stack) > 0;
+		var resonance = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, stack) > 0;
 		var silkTouch = EnchantmentHelper.hasSilkTouch(stack);
 		var fortune = EnchantmentHelper.getLevel(Enchantments.FORTUNE, stack) > 0;
 		
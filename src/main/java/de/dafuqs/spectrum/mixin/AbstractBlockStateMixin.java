@@ -1,6 +1,7 @@
 package de.dafuqs.spectrum.mixin;
 
 import de.dafuqs.spectrum.data_loaders.*;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.block.*;
 import net.minecraft.enchantment.*;
@@ -15,7 +16,7 @@ public abstract class AbstractBlockStateMixin {
 	
 	@ModifyVariable(method = "onStacksDropped", at = @At("HEAD"), ordinal = 0, argsOnly = true)
 	public boolean spectrum$preventXPDropsWhenUsingResonance(boolean dropExperience, ServerWorld world, BlockPos pos, ItemStack stack) {
-		if (ResonanceDropsDataLoader.preventNextXPDrop && EnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, stack) > 0) {
+		if (ResonanceDropsDataLoader.preventNextXPDrop && SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, stack) > 0) {
 			ResonanceDropsDataLoader.preventNextXPDrop = false;
 			return false;
 		}
@@ -0,0 +1,23 @@
+package de.dafuqs.spectrum.mixin;
+
+import de.dafuqs.spectrum.blocks.pastel_network.network.*;
+import net.minecraft.block.*;
+import net.minecraft.block.entity.*;
+import net.minecraft.util.math.*;
+import net.minecraft.world.*;
+import org.spongepowered.asm.mixin.*;
+import org.spongepowered.asm.mixin.injection.*;
+import org.spongepowered.asm.mixin.injection.callback.*;
+
+@Mixin(BlockEntity.class)
+public abstract class BlockEntityMixin {
+
+	// storages like chests and barrels mark themselves dirty when their contents change
+	@Inject(method = "markDirty(Lnet/minecraft/world/World;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;)V", at = @At("HEAD"))
+	private static void spectrum$notifyPastelNodes(World world, BlockPos pos, BlockState state, CallbackInfo ci) {
+		if (!world.isClient) {
+			PastelStorageWatcher.onBlockEntityChanged(world, pos);
+		}
+	}
+
+}
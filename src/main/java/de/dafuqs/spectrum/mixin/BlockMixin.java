@@ -3,7 +3,9 @@ package de.dafuqs.spectrum.mixin;
 import com.llamalad7.mixinextras.injector.*;
 import de.dafuqs.spectrum.data_loaders.*;
 import de.dafuqs.spectrum.enchantments.*;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
+import it.unimi.dsi.fastutil.objects.*;
 import net.minecraft.block.*;
 import net.minecraft.block.entity.*;
 import net.minecraft.enchantment.*;
@@ -33,7 +35,7 @@ public abstract class BlockMixin {
 	@ModifyReturnValue(method = "getDroppedStacks(Lnet/minecraft/block/BlockState;Lnet/minecraft/server/world/ServerWorld;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/entity/BlockEntity;Lnet/minecraft/entity/Entity;Lnet/minecraft/item/ItemStack;)Ljava/util/List;", at = @At("RETURN"))
 	private static List<ItemStack> spectrum$getDroppedStacks(List<ItemStack> original, BlockState state, ServerWorld world, BlockPos pos, BlockEntity blockEntity, Entity entity, ItemStack stack) {
 		List<ItemStack> droppedStacks = original;
-		Map<Enchantment, Integer> enchantmentMap = EnchantmentHelper.get(stack);
+		Object2IntMap<Enchantment> enchantmentMap = SpectrumEnchantmentHelper.getEnchantmentLevels(stack);
 		
 		// Voiding curse: no drops
 		if (enchantmentMap.containsKey(SpectrumEnchantments.VOIDING)) {
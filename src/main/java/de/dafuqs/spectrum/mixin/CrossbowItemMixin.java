@@ -1,5 +1,6 @@
 package de.dafuqs.spectrum.mixin;
 
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.enchantment.*;
 import net.minecraft.item.*;
@@ -12,7 +13,7 @@ public abstract class CrossbowItemMixin {
 	
 	@Inject(method = "getSpeed(Lnet/minecraft/item/ItemStack;)F", at = @At("RETURN"), cancellable = true)
 	private static void getSpeed(ItemStack stack, CallbackInfoReturnable<Float> cir) {
-		int sniperLevel = EnchantmentHelper.getLevel(SpectrumEnchantments.SNIPER, stack);
+		int sniperLevel = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.SNIPER, stack);
 		if (sniperLevel > 0) {
 			cir.setReturnValue(cir.getReturnValue() + 1.0F * sniperLevel);
 		}
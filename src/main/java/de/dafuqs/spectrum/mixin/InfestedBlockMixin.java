@@ -1,5 +1,6 @@
 package de.dafuqs.spectrum.mixin;
 
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.block.*;
 import net.minecraft.enchantment.*;
@@ -20,11 +21,11 @@ public abstract class InfestedBlockMixin {
 	 */
 	@Inject(at = @At("HEAD"), method = "onStacksDropped(Lnet/minecraft/block/BlockState;Lnet/minecraft/server/world/ServerWorld;Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/item/ItemStack;Z)V", cancellable = true)
 	public void onStacksDropped(BlockState state, ServerWorld world, BlockPos pos, ItemStack stack, boolean dropExperience, CallbackInfo ci) {
-		if (EnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, stack) > 0) {
+		if (SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.RESONANCE, stack) > 0) {
 			ci.cancel();
 		}
 		
-		if (EnchantmentHelper.getLevel(SpectrumEnchantments.PEST_CONTROL, stack) > 0) {
+		if (SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.PEST_CONTROL, stack) > 0) {
 			SilverfishEntity silverfishEntity = EntityType.SILVERFISH.create(world);
 			if (silverfishEntity != null) {
 				silverfishEntity.refreshPositionAndAngles(pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, 0.0F, 0.0F);
@@ -5,17 +5,22 @@ import de.dafuqs.spectrum.*;
 import de.dafuqs.spectrum.api.gui.*;
 import de.dafuqs.spectrum.api.item.*;
 import de.dafuqs.spectrum.items.ConcealingOilsItem;
+import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.registries.*;
+import it.unimi.dsi.fastutil.objects.*;
 import net.minecraft.client.item.*;
 import net.minecraft.enchantment.*;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.player.*;
 import net.minecraft.item.*;
+import net.minecraft.nbt.*;
 import net.minecraft.potion.PotionUtil;
+import net.minecraft.registry.*;
 import net.minecraft.registry.tag.*;
 import net.minecraft.screen.slot.*;
 import net.minecraft.text.*;
 import net.minecraft.util.*;
+import net.minecraft.util.math.*;
 import org.jetbrains.annotations.*;
 import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.*;
@@ -24,7 +29,7 @@ import org.spongepowered.asm.mixin.injection.callback.*;
 import java.util.*;
 
 @Mixin(ItemStack.class)
-public abstract class ItemStackMixin {
+public abstract class ItemStackMixin implements EnchantmentLevelCache {
 	
 	@Shadow
 	public abstract boolean isIn(TagKey<Item> tag);
@@ -40,6 +45,48 @@ public abstract class ItemStackMixin {
 	@Deprecated
 	@Nullable
 	private Item item;
+	
+	@Shadow
+	public abstract boolean hasNbt();
+	
+	@Shadow
+	public abstract NbtList getEnchantments();
+	
+	@Unique
+	private @Nullable NbtList spectrum$cachedEnchantmentNbt;
+	
+	@Unique
+	private @Nullable Object2IntMap<Enchantment> spectrum$cachedEnchantmentLevels;
+	
+	@Override
+	public Object2IntMap<Enchantment> spectrum$getEnchantmentLevels() {
+		if (!hasNbt()) {
+			return Object2IntMaps.emptyMap();
+		}
+		
+		// like EnchantmentHelper.get(), enchanted books use their stored enchantments
+		NbtList enchantmentNbt = isOf(Items.ENCHANTED_BOOK) ? EnchantedBookItem.getEnchantmentNbt((ItemStack) (Object) this) : getEnchantments();
+		if (enchantmentNbt.isEmpty()) {
+			return Object2IntMaps.emptyMap();
+		}
+		
+		// the nbt might have been modified in place, so compare the contents, which is still a lot cheaper than parsing them
+		if (this.spectrum$cachedEnchantmentLevels == null || !enchantmentNbt.equals(this.spectrum$cachedEnchantmentNbt)) {
+			Object2IntMap<Enchantment> levels = new Object2IntArrayMap<>(enchantmentNbt.size());
+			for (int i = 0; i < enchantmentNbt.size(); i++) {
+				NbtCompound compound = enchantmentNbt.getCompound(i);
+				Identifier id = EnchantmentHelper.getIdFromNbt(compound);
+				Enchantment enchantment = id == null ? null : Registries.ENCHANTMENT.get(id);
+				// EnchantmentHelper.getLevel() uses the first matching entry
+				if (enchantment != null && !levels.containsKey(enchantment)) {
+					levels.put(enchantment, MathHelper.clamp(EnchantmentHelper.getLevelFromNbt(compound), 0, 255));
+				}
+			}
+			this.spectrum$cachedEnchantmentNbt = enchantmentNbt.copy();
+			this.spectrum$cachedEnchantmentLevels = Object2IntMaps.unmodifiable(levels);
+		}
+		return this.spectrum$cachedEnchantmentLevels;
+	}
 
 	// Injecting into onStackClicked instead of onClicked because onStackClicked is called first
 	@Inject(at = @At("HEAD"), method = "onStackClicked", cancellable = true)
@@ -53,7 +100,7 @@ public abstract class ItemStackMixin {
 
 	@Inject(at = @At(value = "INVOKE", target = "Lnet/minecraft/item/ItemStack;getNbt()Lnet/minecraft/nbt/NbtCompound;"), method = "isDamageable()Z", cancellable = true)
 	public void spectrum$applyIndestructibleEnchantment(CallbackInfoReturnable<Boolean> cir) {
-		if (SpectrumCommon.CONFIG.IndestructibleEnchantmentEnabled && EnchantmentHelper.getLevel(SpectrumEnchantments.INDESTRUCTIBLE, (ItemStack) (Object) this) > 0) {
+		if (SpectrumCommon.CONFIG.IndestructibleEnchantmentEnabled && SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INDESTRUCTIBLE, (ItemStack) (Object) this) > 0) {
 			cir.setReturnValue(false);
 		}
 	}
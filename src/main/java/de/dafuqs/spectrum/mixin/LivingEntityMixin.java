@@ -523,7 +523,7 @@ public abstract class LivingEntityMixin {
 			if (!source.isOf(DamageTypes.THORNS)) {
 				if (source.getAttacker() instanceof LivingEntity livingSource && SpectrumEnchantments.DISARMING.canEntityUse(livingSource)) {
 					
-					int disarmingLevel = EnchantmentHelper.getLevel(SpectrumEnchantments.DISARMING, livingSource.getMainHandStack());
+					int disarmingLevel = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.DISARMING, livingSource.getMainHandStack());
 					if (disarmingLevel > 0 && Math.random() < disarmingLevel * SpectrumCommon.CONFIG.DisarmingChancePerLevelMobs) {
 						DisarmingEnchantment.disarmEntity((LivingEntity) (Object) this);
 					}
@@ -55,7 +55,7 @@ public abstract class MiningToolItemMixin {
 		}
 		
 		// RAZING GAMING
-		int razingLevel = EnchantmentHelper.getLevel(SpectrumEnchantments.RAZING, stack);
+		int razingLevel = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.RAZING, stack);
 		if (razingLevel > 0) {
 			float hardness = state.getBlock().getHardness();
 			original = (float) Math.max(1 + hardness, Math.pow(2, 1 + razingLevel / 8F));
@@ -64,7 +64,7 @@ public abstract class MiningToolItemMixin {
 		// INERTIA GAMING
 		// inertia mining speed calculation logic is capped at 5 levels.
 		// Higher and the formula would do weird stuff
-		int inertiaLevel = EnchantmentHelper.getLevel(SpectrumEnchantments.INERTIA, stack);
+		int inertiaLevel = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INERTIA, stack);
 		inertiaLevel = Math.min(4, inertiaLevel);
 		if (inertiaLevel > 0) {
 			NbtCompound compound = stack.getOrCreateNbt();
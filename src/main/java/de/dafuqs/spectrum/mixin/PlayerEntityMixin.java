@@ -310,7 +310,7 @@ public abstract class PlayerEntityMixin extends LivingEntity implements PlayerEn
 	@Unique
 	private boolean isInexorableActive() {
 		PlayerEntity player = (PlayerEntity) (Object) this;
-		return SpectrumEnchantments.INEXORABLE.canEntityUse(player) && EnchantmentHelper.getLevel(SpectrumEnchantments.INEXORABLE, player.getStackInHand(player.getActiveHand())) > 0;
+		return SpectrumEnchantments.INEXORABLE.canEntityUse(player) && SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INEXORABLE, player.getStackInHand(player.getActiveHand())) > 0;
 	}
 	
 }
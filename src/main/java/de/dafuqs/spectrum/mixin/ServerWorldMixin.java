@@ -3,6 +3,7 @@ package de.dafuqs.spectrum.mixin;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import com.llamalad7.mixinextras.sugar.Local;
+import de.dafuqs.spectrum.blocks.MultiblockStateCache;
 import de.dafuqs.spectrum.cca.MiscPlayerDataComponent;
 import de.dafuqs.spectrum.events.*;
 import de.dafuqs.spectrum.helpers.TimeHelper;
@@ -29,7 +30,12 @@ public abstract class ServerWorldMixin {
 
 	@Inject(method = "onBlockChanged(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;Lnet/minecraft/block/BlockState;)V", at = @At("HEAD"))
 	private void spectrum$emitBlockChangedEvent(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
-		((ServerWorld) (Object) this).emitGameEvent(SpectrumGameEvents.BLOCK_CHANGED, pos, GameEvent.Emitter.of(newBlock));
+		ServerWorld world = (ServerWorld) (Object) this;
+		// only emit when someone in range actually listens for it
+		if (BlockChangedEventSections.isWatched(world, pos)) {
+			world.emitGameEvent(SpectrumGameEvents.BLOCK_CHANGED, pos, GameEvent.Emitter.of(newBlock));
+		}
+		MultiblockStateCache.onBlockChanged(world, pos);
 	}
 
 	@WrapOperation(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/world/ServerWorld;setTimeOfDay(J)V"))
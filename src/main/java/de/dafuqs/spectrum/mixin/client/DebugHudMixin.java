@@ -0,0 +1,21 @@
+package de.dafuqs.spectrum.mixin.client;
+
+import de.dafuqs.spectrum.particle.render.*;
+import net.fabricmc.api.*;
+import net.minecraft.client.gui.hud.*;
+import org.spongepowered.asm.mixin.*;
+import org.spongepowered.asm.mixin.injection.*;
+import org.spongepowered.asm.mixin.injection.callback.*;
+
+import java.util.*;
+
+@Environment(EnvType.CLIENT)
+@Mixin(DebugHud.class)
+public abstract class DebugHudMixin {
+
+	@Inject(method = "getLeftText()Ljava/util/List;", at = @At("RETURN"))
+	private void spectrum$addEarlyRenderingParticleCounts(CallbackInfoReturnable<List<String>> cir) {
+		EarlyRenderingParticleContainer.addDebugText(cir.getReturnValue());
+	}
+
+}
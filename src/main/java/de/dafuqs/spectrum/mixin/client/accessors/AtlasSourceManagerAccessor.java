@@ -0,0 +1,16 @@
+package de.dafuqs.spectrum.mixin.client.accessors;
+
+import com.mojang.serialization.*;
+import net.minecraft.client.texture.atlas.*;
+import org.spongepowered.asm.mixin.*;
+import org.spongepowered.asm.mixin.gen.*;
+
+@Mixin(AtlasSourceManager.class)
+public interface AtlasSourceManagerAccessor {
+	
+	@Invoker
+	static AtlasSourceType invokeRegister(String id, Codec<? extends AtlasSource> codec) {
+		throw new IllegalStateException();
+	}
+	
+}
@@ -91,4 +91,9 @@ public class PastelTransmissionParticle extends TransmissionParticle implements
         matrixStack.pop();
     }
 
+    @Override
+    public int getRenderBatchKey() {
+        return Item.getRawId(this.itemStack.getItem());
+    }
+
 }
@@ -7,4 +7,12 @@ import net.minecraft.client.util.math.*;
 @Environment(EnvType.CLIENT)
 public interface EarlyRenderingParticle {
     void renderAsEntity(final MatrixStack matrices, final VertexConsumerProvider vertexConsumers, final Camera camera, final float tickDelta);
+    
+    /**
+     * Particles of a texture sheet get rendered ordered by this key.
+     * Particles rendering into the same render layers should share it, so their vertices end up in the same buffer in one go
+     */
+    default int getRenderBatchKey() {
+        return 0;
+    }
 }
\ No newline at end of file
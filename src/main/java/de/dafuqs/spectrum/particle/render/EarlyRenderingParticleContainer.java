@@ -1,6 +1,5 @@
 package de.dafuqs.spectrum.particle.render;
 
-import com.google.common.collect.*;
 import it.unimi.dsi.fastutil.objects.*;
 import net.fabricmc.api.*;
 import net.minecraft.client.particle.*;
@@ -13,17 +12,17 @@ import java.util.*;
 public class EarlyRenderingParticleContainer {
     
     private static final int MAX_PARTICLES = 16384;
-    private final static Map<ParticleTextureSheet, Queue<EarlyRenderingParticle>> particles = new Object2ReferenceOpenHashMap<>();
+    private final static Map<ParticleTextureSheet, ParticleBatch> particles = new Object2ReferenceOpenHashMap<>();
 
     public void add(final Particle particle) {
         if (particle instanceof EarlyRenderingParticle earlyRenderingParticle) {
-            particles.computeIfAbsent(particle.getType(), sheet -> EvictingQueue.create(MAX_PARTICLES)).add(earlyRenderingParticle);
+            particles.computeIfAbsent(particle.getType(), sheet -> new ParticleBatch()).add(earlyRenderingParticle);
         }
     }
     
     public void removeDead() {
-        for (final Queue<EarlyRenderingParticle> particles : particles.values()) {
-            particles.removeIf(particle -> !((Particle) particle).isAlive());
+        for (final ParticleBatch batch : particles.values()) {
+            batch.removeDead();
         }
     }
     
@@ -32,10 +31,108 @@ public class EarlyRenderingParticleContainer {
     }
     
     public void render(final MatrixStack matrices, final VertexConsumerProvider vertexConsumers, final Camera camera, final float tickDelta) {
-        for (final Queue<EarlyRenderingParticle> particles : particles.values()) {
-            for (final EarlyRenderingParticle particle : particles) {
-                particle.renderAsEntity(matrices, vertexConsumers, camera, tickDelta);
+        for (final ParticleBatch batch : particles.values()) {
+            batch.render(matrices, vertexConsumers, camera, tickDelta);
+        }
+    }
+    
+    /**
+     * Adds the amount of particles of each texture sheet to the F3 screen
+     */
+    public static void addDebugText(final List<String> lines) {
+        StringBuilder builder = null;
+        for (final Map.Entry<ParticleTextureSheet, ParticleBatch> entry : particles.entrySet()) {
+            if (entry.getValue().size == 0) {
+                continue;
+            }
+            builder = builder == null ? new StringBuilder("Spectrum Early Particles: ") : builder.append(", ");
+            builder.append(entry.getKey()).append(": ").append(entry.getValue().size);
+        }
+        if (builder != null) {
+            lines.add(builder.toString());
+        }
+    }
+    
+    /**
+     * The particles of a single texture sheet, in the order they were added.
+     * Like the particle manager's own queues, the oldest particle gets evicted once there are too many.
+     * Evicting only moves the start of the ring buffer, instead of shifting all other particles.
+     * <p>
+     * Rendering goes through a copy sorted by {@link EarlyRenderingParticle#getRenderBatchKey()},
+     * so particles using the same render layers get written into their buffers one after another.
+     */
+    private static class ParticleBatch {
+        
+        private static final Comparator<EarlyRenderingParticle> RENDER_ORDER = Comparator.comparingInt(EarlyRenderingParticle::getRenderBatchKey);
+        
+        // a ring buffer, starting at the oldest particle
+        private EarlyRenderingParticle[] particles = new EarlyRenderingParticle[16];
+        private EarlyRenderingParticle[] renderOrder = new EarlyRenderingParticle[0];
+        private int head = 0;
+        private int size = 0;
+        private boolean renderOrderDirty = false;
+        
+        private int index(final int i) {
+            return (this.head + i) % this.particles.length;
+        }
+        
+        private void add(final EarlyRenderingParticle particle) {
+            if (this.size == MAX_PARTICLES) {
+                // overwrite the oldest particle, the next one becomes the oldest
+                this.particles[this.head] = particle;
+                this.head = index(1);
+            } else {
+                if (this.size == this.particles.length) {
+                    final EarlyRenderingParticle[] grown = new EarlyRenderingParticle[Math.min(this.particles.length * 2, MAX_PARTICLES)];
+                    copyInOrder(grown);
+                    this.particles = grown;
+                    this.head = 0;
+                }
+                this.particles[index(this.size)] = particle;
+                this.size++;
+            }
+            this.renderOrderDirty = true;
+        }
+        
+        private void copyInOrder(final EarlyRenderingParticle[] target) {
+            final int untilEnd = Math.min(this.size, this.particles.length - this.head);
+            System.arraycopy(this.particles, this.head, target, 0, untilEnd);
+            System.arraycopy(this.particles, 0, target, untilEnd, this.size - untilEnd);
+        }
+        
+        private void removeDead() {
+            int alive = 0;
+            for (int i = 0; i < this.size; i++) {
+                final EarlyRenderingParticle particle = this.particles[index(i)];
+                if (((Particle) particle).isAlive()) {
+                    this.particles[index(alive++)] = particle;
+                }
+            }
+            if (alive != this.size) {
+                for (int i = alive; i < this.size; i++) {
+                    this.particles[index(i)] = null;
+                }
+                this.size = alive;
+                this.renderOrderDirty = true;
+            }
+        }
+        
+        private void render(final MatrixStack matrices, final VertexConsumerProvider vertexConsumers, final Camera camera, final float tickDelta) {
+            if (this.renderOrderDirty) {
+                if (this.renderOrder.length < this.particles.length) {
+                    this.renderOrder = new EarlyRenderingParticle[this.particles.length];
+                } else {
+                    Arrays.fill(this.renderOrder, this.size, this.renderOrder.length, null);
+                }
+                copyInOrder(this.renderOrder);
+                Arrays.sort(this.renderOrder, 0, this.size, RENDER_ORDER);
+                this.renderOrderDirty = false;
+            }
+            
+            for (int i = 0; i < this.size; i++) {
+                this.renderOrder[i].renderAsEntity(matrices, vertexConsumers, camera, tickDelta);
             }
         }
+        
     }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package de.dafuqs.spectrum.recipe;
+
+import de.dafuqs.spectrum.mixin.accessors.*;
+import it.unimi.dsi.fastutil.objects.*;
+import net.minecraft.inventory.*;
+import net.minecraft.item.*;
+import net.minecraft.recipe.*;
+import net.minecraft.util.*;
+import net.minecraft.world.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Narrows down which recipes of a type can match an inventory at all, instead of testing every single one like
+ * {@link RecipeManager#getFirstMatch(RecipeType, Inventory, World)} does.
+ * <p>
+ * Each recipe is indexed by the items of one of its required ingredients, picking the one matching the fewest items.
+ * A lookup only tests the recipes indexed under the items in the inventory's key slots,
+ * plus the recipes that could not be indexed, in the same order the recipe manager would.
+ * <p>
+ * The index is rebuilt whenever the recipes of its type got replaced, like on data pack reloads.
+ */
+public class RecipeIndex<C extends Inventory, T extends Recipe<C>> {
+
+	private final Supplier<RecipeType<T>> recipeType;
+	private final Function<T, @Nullable List<Ingredient>> requiredIngredients;
+
+	private @Nullable Map<Identifier, Recipe<?>> indexedRecipes;
+	private final Map<Item, List<T>> recipesByItem = new Reference2ObjectOpenHashMap<>();
+	private final List<T> unindexedRecipes = new ArrayList<>();
+	private final Reference2IntMap<T> recipeOrder = new Reference2IntOpenHashMap<>();
+
+	/**
+	 * @param requiredIngredients ingredients that all need to be present in the key slots for the recipe to match.
+	 *                            Return null for recipes that cannot be indexed, like recipes with custom matching logic.
+	 *                            Those are tested on every lookup.
+	 */
+	public RecipeIndex(Supplier<RecipeType<T>> recipeType, Function<T, @Nullable List<Ingredient>> requiredIngredients) {
+		this.recipeType = recipeType;
+		this.requiredIngredients = requiredIngredients;
+	}
+
+	public Optional<T> getFirstMatch(C inventory, World world) {
+		int[] slots = new int[inventory.size()];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = i;
+		}
+		return getFirstMatch(inventory, world, slots);
+	}
+
+	public Optional<T> getFirstMatch(C inventory, World world, int[] keySlots) {
+		updateIndex(world.getRecipeManager());
+
+		List<T> candidates = new ArrayList<>(this.unindexedRecipes);
+		Set<Item> keyItems = new ReferenceArraySet<>(keySlots.length);
+		for (int slot : keySlots) {
+			ItemStack stack = inventory.getStack(slot);
+			if (!stack.isEmpty() && keyItems.add(stack.getItem())) {
+				List<T> recipes = this.recipesByItem.get(stack.getItem());
+				if (recipes != null) {
+					candidates.addAll(recipes);
+				}
+			}
+		}
+
+		// recipes indexed under multiple present items show up multiple times
+		candidates.sort(Comparator.comparingInt(this.recipeOrder::getInt));
+		T previousCandidate = null;
+		for (T candidate : candidates) {
+			if (candidate != previousCandidate && candidate.matches(inventory, world)) {
+				return Optional.of(candidate);
+			}
+			previousCandidate = candidate;
+		}
+		return Optional.empty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void updateIndex(RecipeManager recipeManager) {
+		Map<Identifier, Recipe<?>> recipes = ((RecipeManagerAccessor) recipeManager).getRecipes().getOrDefault(this.recipeType.get(), Map.of());
+		if (recipes == this.indexedRecipes) {
+			return;
+		}
+
+		this.indexedRecipes = recipes;
+		this.recipesByItem.clear();
+		this.unindexedRecipes.clear();
+		this.recipeOrder.clear();
+
+		for (Recipe<?> r : recipes.values()) {
+			T recipe = (T) r;
+			this.recipeOrder.put(recipe, this.recipeOrder.size());
+
+			Ingredient keyIngredient = getKeyIngredient(recipe);
+			if (keyIngredient == null) {
+				this.unindexedRecipes.add(recipe);
+				continue;
+			}
+			for (ItemStack stack : keyIngredient.getMatchingStacks()) {
+				List<T> itemRecipes = this.recipesByItem.computeIfAbsent(stack.getItem(), item -> new ArrayList<>());
+				// matching stacks can contain the same item with different nbt
+				if (itemRecipes.isEmpty() || itemRecipes.get(itemRecipes.size() - 1) != recipe) {
+					itemRecipes.add(recipe);
+				}
+			}
+		}
+	}
+
+	private @Nullable Ingredient getKeyIngredient(T recipe) {
+		List<Ingredient> ingredients = this.requiredIngredients.apply(recipe);
+		if (ingredients == null) {
+			return null;
+		}
+
+		Ingredient keyIngredient = null;
+		int keyItemCount = Integer.MAX_VALUE;
+		for (Ingredient ingredient : ingredients) {
+			if (ingredient.isEmpty()) {
+				continue;
+			}
+			int itemCount = ingredient.getMatchingStacks().length;
+			if (itemCount > 0 && itemCount < keyItemCount) {
+				keyIngredient = ingredient;
+				keyItemCount = itemCount;
+			}
+		}
+		return keyIngredient;
+	}
+
+}
@@ -0,0 +1,66 @@
+package de.dafuqs.spectrum.recipe;
+
+import de.dafuqs.spectrum.mixin.accessors.*;
+import net.minecraft.inventory.*;
+import net.minecraft.item.*;
+import net.minecraft.recipe.*;
+import net.minecraft.util.*;
+import net.minecraft.world.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Remembers which recipe of a type takes a single item as input, for recipes that only ever look at the first slot,
+ * so repeated lookups for the same item do not have to test every recipe of the type again.
+ * <p>
+ * Only stacks without nbt get cached, since those always resolve to the same recipe for the same item.
+ * The cache is dropped whenever the recipes of its type got replaced, like on data pack reloads.
+ * Every lookup uses its own input inventory, so it is safe to use from both the client and the server thread.
+ */
+public class SingleInputRecipeCache<T extends Recipe<Inventory>> {
+
+	private final Supplier<RecipeType<T>> recipeType;
+	private volatile Entries<T> entries = new Entries<>(null);
+
+	public SingleInputRecipeCache(Supplier<RecipeType<T>> recipeType) {
+		this.recipeType = recipeType;
+	}
+
+	public @Nullable T getRecipeFor(ItemStack stack, World world) {
+		if (stack.isEmpty()) {
+			return null;
+		}
+		if (stack.hasNbt()) {
+			return lookup(stack, world);
+		}
+
+		Entries<T> entries = getEntries(world.getRecipeManager());
+		return entries.recipes.computeIfAbsent(stack.getItem(), item -> Optional.ofNullable(lookup(stack, world))).orElse(null);
+	}
+
+	private @Nullable T lookup(ItemStack stack, World world) {
+		return world.getRecipeManager().getFirstMatch(this.recipeType.get(), new SimpleInventory(stack), world).orElse(null);
+	}
+
+	private Entries<T> getEntries(RecipeManager recipeManager) {
+		Map<Identifier, Recipe<?>> recipes = ((RecipeManagerAccessor) recipeManager).getRecipes().getOrDefault(this.recipeType.get(), Map.of());
+		Entries<T> entries = this.entries;
+		if (entries.cachedRecipes != recipes) {
+			entries = new Entries<>(recipes);
+			this.entries = entries;
+		}
+		return entries;
+	}
+
+	private record Entries<T>(@Nullable Map<Identifier, Recipe<?>> cachedRecipes, Map<Item, Optional<T>> recipes) {
+
+		private Entries(@Nullable Map<Identifier, Recipe<?>> cachedRecipes) {
+			this(cachedRecipes, new ConcurrentHashMap<>());
+		}
+
+	}
+
+}
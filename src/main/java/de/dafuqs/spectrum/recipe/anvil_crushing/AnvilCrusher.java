@@ -2,31 +2,26 @@ package de.dafuqs.spectrum.recipe.anvil_crushing;
 
 import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.networking.*;
+import de.dafuqs.spectrum.recipe.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.entity.*;
-import net.minecraft.inventory.*;
 import net.minecraft.item.*;
 import net.minecraft.server.world.*;
 import net.minecraft.sound.*;
 import net.minecraft.util.math.*;
 import net.minecraft.world.*;
 
-import java.util.*;
-
 public class AnvilCrusher {
 	
-	private static final Inventory INVENTORY = new SimpleInventory(1);
+	private static final SingleInputRecipeCache<AnvilCrushingRecipe> RECIPE_CACHE = new SingleInputRecipeCache<>(() -> SpectrumRecipeTypes.ANVIL_CRUSHING);
 	
 	public static void crush(ItemEntity itemEntity, float damageAmount) {
 		ItemStack thisItemStack = itemEntity.getStack();
 		World world = itemEntity.getWorld();
 		
-		INVENTORY.setStack(0, thisItemStack);
-		
-		Optional<AnvilCrushingRecipe> optionalAnvilCrushingRecipe = world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.ANVIL_CRUSHING, INVENTORY, world);
-		if (optionalAnvilCrushingRecipe.isPresent()) {
+		AnvilCrushingRecipe recipe = RECIPE_CACHE.getRecipeFor(thisItemStack, world);
+		if (recipe != null) {
 			// Item can be crafted via anvil. Do anvil crafting
-			AnvilCrushingRecipe recipe = optionalAnvilCrushingRecipe.get();
 			
 			int itemStackAmount = itemEntity.getStack().getCount();
 			int crushingInputAmount = Math.min(itemStackAmount, (int) (recipe.getCrushedItemsPerPointOfDamage() * damageAmount));
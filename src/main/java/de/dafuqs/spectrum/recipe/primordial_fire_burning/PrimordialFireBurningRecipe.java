@@ -2,7 +2,6 @@ package de.dafuqs.spectrum.recipe.primordial_fire_burning;
 
 import de.dafuqs.spectrum.*;
 import de.dafuqs.spectrum.entity.entity.*;
-import de.dafuqs.spectrum.inventories.*;
 import de.dafuqs.spectrum.recipe.*;
 import de.dafuqs.spectrum.registries.*;
 import net.minecraft.block.*;
@@ -18,13 +17,11 @@ import net.minecraft.util.math.*;
 import net.minecraft.world.*;
 import org.jetbrains.annotations.*;
 
-import java.util.*;
-
 public class PrimordialFireBurningRecipe extends GatedSpectrumRecipe<Inventory> {
 	
 	public static final Identifier UNLOCK_IDENTIFIER = SpectrumCommon.locate("lategame/collect_doombloom_seed");
 	
-	private static AutoCraftingInventory AUTO_INVENTORY = new AutoCraftingInventory(1, 1);
+	private static final SingleInputRecipeCache<PrimordialFireBurningRecipe> RECIPE_CACHE = new SingleInputRecipeCache<>(() -> SpectrumRecipeTypes.PRIMORDIAL_FIRE_BURNING);
 	
 	protected final Ingredient input;
 	protected final ItemStack output;
@@ -91,8 +88,7 @@ public class PrimordialFireBurningRecipe extends GatedSpectrumRecipe<Inventory>
 	}
 	
 	public static PrimordialFireBurningRecipe getRecipeFor(@NotNull World world, ItemStack stack) {
-		AUTO_INVENTORY.setInputInventory(Collections.singletonList(stack));
-		return world.getRecipeManager().getFirstMatch(SpectrumRecipeTypes.PRIMORDIAL_FIRE_BURNING, AUTO_INVENTORY, world).orElse(null);
+		return RECIPE_CACHE.getRecipeFor(stack, world);
 	}
 	
 	public static boolean processBlock(World world, BlockPos pos, BlockState state) {
@@ -101,13 +97,13 @@ public class PrimordialFireBurningRecipe extends GatedSpectrumRecipe<Inventory>
 			return false;
 		}
 		
-		PrimordialFireBurningRecipe recipe = PrimordialFireBurningRecipe.getRecipeFor(world, item.getDefaultStack());
+		ItemStack inputStack = item.getDefaultStack();
+		PrimordialFireBurningRecipe recipe = PrimordialFireBurningRecipe.getRecipeFor(world, inputStack);
 		if (recipe == null) {
 			return false;
 		}
 		
-		AUTO_INVENTORY.setInputInventory(Collections.singletonList(state.getBlock().asItem().getDefaultStack()));
-		ItemStack output = recipe.craft(AUTO_INVENTORY, world.getRegistryManager());
+		ItemStack output = recipe.craft(new SimpleInventory(inputStack), world.getRegistryManager());
 		
 		world.playSound(null, pos, SpectrumSoundEvents.PRIMORDIAL_FIRE_CRACKLE, SoundCategory.BLOCKS, 0.7F, 1.0F);
 		if(output.getItem() instanceof BlockItem blockItem) {
@@ -130,8 +126,7 @@ public class PrimordialFireBurningRecipe extends GatedSpectrumRecipe<Inventory>
 		}
 		
 		int inputCount = inputStack.getCount();
-		AUTO_INVENTORY.setInputInventory(Collections.singletonList(inputStack));
-		ItemStack outputStack = recipe.craft(AUTO_INVENTORY, world.getRegistryManager()).copy();
+		ItemStack outputStack = recipe.craft(new SimpleInventory(inputStack), world.getRegistryManager()).copy();
 		outputStack.setCount(outputStack.getCount() * inputCount);
 		
 		inputStack.setCount(0);
@@ -37,6 +37,7 @@ import de.dafuqs.spectrum.blocks.lava_sponge.*;
 import de.dafuqs.spectrum.blocks.melon.*;
 import de.dafuqs.spectrum.blocks.memory.*;
 import de.dafuqs.spectrum.blocks.mob_head.*;
+import de.dafuqs.spectrum.blocks.mob_head.client.*;
 import de.dafuqs.spectrum.blocks.particle_spawner.*;
 import de.dafuqs.spectrum.blocks.pastel_network.nodes.*;
 import de.dafuqs.spectrum.blocks.pedestal.*;
@@ -3191,6 +3192,15 @@ public class SpectrumBlocks {
 				SpectrumBlocks.WAXED_HUMMINGSTONE,
 				SpectrumBlocks.HUMMINGSTONE_GLASS,
 				SpectrumBlocks.HUMMINGSTONE_GLASS_PANE);
+
+		// only used for heads that are baked into the chunk mesh
+		for (Block mobHead : SpectrumSkullBlock.getMobHeads()) {
+			BlockRenderLayerMap.INSTANCE.putBlock(mobHead, RenderLayer.getCutout());
+		}
+		for (Block mobWallHead : SpectrumWallSkullBlock.getMobWallHeads()) {
+			BlockRenderLayerMap.INSTANCE.putBlock(mobWallHead, RenderLayer.getCutout());
+		}
+		BakedSkullAtlasSource.register();
 	}
 
 }
@@ -4,11 +4,15 @@ import com.google.common.collect.*;
 import de.dafuqs.arrowhead.api.*;
 import de.dafuqs.spectrum.*;
 import de.dafuqs.spectrum.api.item.*;
+import de.dafuqs.spectrum.blocks.*;
 import de.dafuqs.spectrum.blocks.chests.*;
+import de.dafuqs.spectrum.blocks.energy.*;
 import de.dafuqs.spectrum.blocks.idols.*;
 import de.dafuqs.spectrum.blocks.pastel_network.*;
+import de.dafuqs.spectrum.blocks.redstone.*;
 import de.dafuqs.spectrum.cca.*;
 import de.dafuqs.spectrum.entity.spawners.*;
+import de.dafuqs.spectrum.explosion.BatchedExplosionProcessor;
 import de.dafuqs.spectrum.helpers.TimeHelper;
 import de.dafuqs.spectrum.helpers.*;
 import de.dafuqs.spectrum.items.magic_items.*;
@@ -126,6 +130,10 @@ public class SpectrumEventListeners {
 				e.printStackTrace();
 			}
 			
+			BatchedExplosionProcessor.tickPending();
+			StructureCompassLocator.tickPending();
+			DetectorEntityScan.endTick();
+			
 			PlayerManager playerManager = server.getPlayerManager();
 			for (ServerPlayerEntity player : playerManager.getPlayerList()) {
 				World world = player.getWorld();
@@ -157,6 +165,22 @@ public class SpectrumEventListeners {
 			}
 		});
 		
+		ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+			if (blockEntity instanceof RedstoneTransceiverBlockEntity redstoneTransceiverBlockEntity) {
+				redstoneTransceiverBlockEntity.updateReceivingChannel();
+			}
+		});
+		
+		// fires for chunk unloads, too. Those do not mark block entities as removed
+		ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+			MultiblockStateCache.onBlockEntityUnloaded(blockEntity);
+			if (blockEntity instanceof CrystalApothecaryBlockEntity crystalApothecaryBlockEntity) {
+				crystalApothecaryBlockEntity.stopWatchingBlockChanges();
+			} else if (blockEntity instanceof RedstoneTransceiverBlockEntity redstoneTransceiverBlockEntity) {
+				redstoneTransceiverBlockEntity.stopReceiving();
+			}
+		});
+		
 		ServerLifecycleEvents.SERVER_STARTED.register((server) -> {
 			SpectrumCommon.logInfo("Querying fluid luminance...");
 			for (Iterator<Block> it = Registries.BLOCK.stream().iterator(); it.hasNext(); ) {
@@ -198,8 +222,8 @@ public class SpectrumEventListeners {
 		});
 		
 		ServerEntityEvents.EQUIPMENT_CHANGE.register((livingEntity, equipmentSlot, previousStack, currentStack) -> {
-			var oldInexorable = EnchantmentHelper.getLevel(SpectrumEnchantments.INEXORABLE, previousStack);
-			var newInexorable = EnchantmentHelper.getLevel(SpectrumEnchantments.INEXORABLE, currentStack);
+			var oldInexorable = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INEXORABLE, previousStack);
+			var newInexorable = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.INEXORABLE, currentStack);
 			
 			var effectType = equipmentSlot == EquipmentSlot.CHEST ? SpectrumAttributeTags.INEXORABLE_ARMOR_EFFECTIVE : SpectrumAttributeTags.INEXORABLE_HANDHELD_EFFECTIVE;
 			
@@ -235,7 +259,7 @@ public class SpectrumEventListeners {
 		
 		ModifyItemAttributeModifiersCallback.EVENT.register((stack, slot, attributeModifiers) -> {
 			if (slot == EquipmentSlot.MAINHAND) {
-				int tightGripLevel = EnchantmentHelper.getLevel(SpectrumEnchantments.TIGHT_GRIP, stack);
+				int tightGripLevel = SpectrumEnchantmentHelper.getLevel(SpectrumEnchantments.TIGHT_GRIP, stack);
 				if (tightGripLevel > 0) {
 					float attackSpeedBonus = tightGripLevel * SpectrumCommon.CONFIG.TightGripAttackSpeedBonusPercentPerLevel;
 					EntityAttributeModifier mod = new EntityAttributeModifier(UUID.fromString("b09d9b57-eefb-4499-9150-5d8d3e644a40"), "Tight Grip modifier", attackSpeedBonus, EntityAttributeModifier.Operation.MULTIPLY_TOTAL);
@@ -376,8 +400,8 @@ public class SpectrumEventListeners {
 			
 			@Override
 			public void reload(ResourceManager manager) {
-				CompactingChestBlockEntity.clearCache();
-				SpectrumCommon.CACHED_ITEM_TAG_MAP.clear();
+				CompactionTable.invalidate();
+				MultiblockStateCache.invalidateAll();
 				
 				if (SpectrumCommon.minecraftServer != null) {
 					injectEnchantmentUpgradeRecipes(SpectrumCommon.minecraftServer);
@@ -5,6 +5,8 @@ import de.dafuqs.spectrum.api.energy.*;
 import de.dafuqs.spectrum.api.interaction.*;
 import de.dafuqs.spectrum.api.render.*;
 import de.dafuqs.spectrum.blocks.bottomless_bundle.*;
+import de.dafuqs.spectrum.blocks.mob_head.*;
+import de.dafuqs.spectrum.blocks.mob_head.client.*;
 import de.dafuqs.spectrum.blocks.pastel_network.*;
 import de.dafuqs.spectrum.data_loaders.*;
 import de.dafuqs.spectrum.deeper_down.*;
@@ -80,15 +82,24 @@ public class SpectrumClientEventListeners {
 		ModelLoadingPlugin.register((ctx) -> {
 			ctx.modifyModelAfterBake().register((orig, c) -> {
 				Identifier id = c.id();
-				if (id instanceof ModelIdentifier mid && CUSTOM_ITEM_MODELS.contains(mid)) {
-					return new DynamicRenderModel(orig);
+				if (id instanceof ModelIdentifier mid) {
+					if (CUSTOM_ITEM_MODELS.contains(mid)) {
+						return new DynamicRenderModel(orig);
+					}
+					SpectrumSkullType skullType = BakedSkullModel.getSkullType(mid);
+					if (skullType != null) {
+						return new BakedSkullModel(orig, skullType);
+					}
 				}
 				return orig;
 			});
 		});
 		
 		ClientLifecycleEvents.CLIENT_STARTED.register(minecraftClient -> SpectrumColorProviders.registerClient());
-		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> Pastel.clearClientInstance());
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+			Pastel.clearClientInstance();
+			BuildingStaffOutlineCache.clear();
+		});
 		
 		ItemTooltipCallback.EVENT.register((stack, context, lines) -> {
 			if (!foodEffectsTooltipsModLoaded && stack.isFood()) {
@@ -152,49 +163,46 @@ public class SpectrumClientEventListeners {
 		BlockPos lookingAtPos = hitResult.getBlockPos();
 		BlockState lookingAtState = world.getBlockState(lookingAtPos);
 		
-		if (player.getMainHandStack().getItem() instanceof BuildingStaffItem staff && (player.isCreative() || staff.canInteractWith(lookingAtState, world, lookingAtPos, player))) {
-			Block lookingAtBlock = lookingAtState.getBlock();
-			Item item = lookingAtBlock.asItem();
-			VoxelShape shape = VoxelShapes.empty();
-			
-			if (item != Items.AIR) {
-				int itemCountInInventory = Integer.MAX_VALUE;
-				long inkLimit = Long.MAX_VALUE;
-				if (!player.isCreative()) {
-					Triplet<Block, Item, Integer> inventoryItemAndCount = BuildingHelper.getBuildingItemCountInInventoryIncludingSimilars(player, lookingAtBlock, Integer.MAX_VALUE);
-					item = inventoryItemAndCount.getB();
-					itemCountInInventory = inventoryItemAndCount.getC();
-					inkLimit = InkPowered.getAvailableInk(player, ConstructorsStaffItem.USED_COLOR) / ConstructorsStaffItem.INK_COST_PER_BLOCK;
-				}
-				
-				boolean sneaking = player.isSneaking();
-				if (itemCountInInventory == 0) {
-					HudRenderers.setItemStackToRender(new ItemStack(item), 0, false);
-				} else if (inkLimit == 0) {
-					HudRenderers.setItemStackToRender(new ItemStack(item), 1, true);
-				} else {
-					long usableCount = Math.min(itemCountInInventory, inkLimit);
-					List<BlockPos> positions = BuildingHelper.calculateBuildingStaffSelection(world, lookingAtPos, hitResult.getSide(), usableCount, ConstructorsStaffItem.getRange(player), !sneaking);
-					if (!positions.isEmpty()) {
-						for (BlockPos newPosition : positions) {
-							if (world.getWorldBorder().contains(newPosition)) {
-								BlockPos testPos = lookingAtPos.subtract(newPosition);
-								shape = VoxelShapes.union(shape, lookingAtState.getOutlineShape(world, lookingAtPos, ShapeContext.of(camera.getFocusedEntity())).offset(-testPos.getX(), -testPos.getY(), -testPos.getZ()));
-							}
-						}
-						
-						HudRenderers.setItemStackToRender(new ItemStack(item), positions.size(), false);
-						VertexConsumer linesBuffer = consumers.getBuffer(RenderLayer.getLines());
-						WorldRendererAccessor.invokeDrawCuboidShapeOutline(matrices, linesBuffer, shape, (double) lookingAtPos.getX() - d, (double) lookingAtPos.getY() - e, (double) lookingAtPos.getZ() - f, 0.0F, 0.0F, 0.0F, 0.4F);
-						return true;
-					}
-				}
-			}
+		ItemStack staffStack = player.getMainHandStack();
+		if (staffStack.getItem() instanceof BuildingStaffItem staff && (player.isCreative() || staff.canInteractWith(lookingAtState, world, lookingAtPos, player))) {
+			BuildingStaffOutlineCache.Preview preview = BuildingStaffOutlineCache.get(world, player, lookingAtPos, hitResult.getSide(), lookingAtState, staffStack,
+					() -> calculatePlacementStaffPreview(world, player, camera, lookingAtPos, lookingAtState, hitResult.getSide()));
+			return renderStaffPreview(preview, matrices, consumers, lookingAtPos, d, e, f);
 		}
 		
 		return false;
 	}
 	
+	private static BuildingStaffOutlineCache.Preview calculatePlacementStaffPreview(ClientWorld world, PlayerEntity player, Camera camera, BlockPos lookingAtPos, BlockState lookingAtState, Direction side) {
+		Block lookingAtBlock = lookingAtState.getBlock();
+		Item item = lookingAtBlock.asItem();
+		if (item == Items.AIR) {
+			return BuildingStaffOutlineCache.NONE;
+		}
+		
+		int itemCountInInventory = Integer.MAX_VALUE;
+		long inkLimit = Long.MAX_VALUE;
+		if (!player.isCreative()) {
+			Triplet<Block, Item, Integer> inventoryItemAndCount = BuildingHelper.getBuildingItemCountInInventoryIncludingSimilars(player, lookingAtBlock, Integer.MAX_VALUE);
+			item = inventoryItemAndCount.getB();
+			itemCountInInventory = inventoryItemAndCount.getC();
+			inkLimit = InkPowered.getAvailableInk(player, ConstructorsStaffItem.USED_COLOR) / ConstructorsStaffItem.INK_COST_PER_BLOCK;
+		}
+		
+		if (itemCountInInventory == 0) {
+			return new BuildingStaffOutlineCache.Preview(new ItemStack(item), 0, false, null);
+		} else if (inkLimit == 0) {
+			return new BuildingStaffOutlineCache.Preview(new ItemStack(item), 1, true, null);
+		}
+		
+		long usableCount = Math.min(itemCountInInventory, inkLimit);
+		List<BlockPos> positions = BuildingHelper.calculateBuildingStaffSelection(world, lookingAtPos, side, usableCount, ConstructorsStaffItem.getRange(player), !player.isSneaking());
+		if (positions.isEmpty()) {
+			return BuildingStaffOutlineCache.NONE;
+		}
+		return new BuildingStaffOutlineCache.Preview(new ItemStack(item), positions.size(), false, getSelectionOutline(world, camera, lookingAtPos, lookingAtState, positions));
+	}
+	
 	private static boolean renderExchangeStaffOutline(MatrixStack matrices, Camera camera, double d, double e, double f, VertexConsumerProvider consumers, ItemStack exchangeStaffItemStack, WorldRenderContext.BlockOutlineContext hitResult) {
 		MinecraftClient client = MinecraftClient.getInstance();
 		ClientWorld world = client.world;
@@ -207,54 +215,75 @@ public class SpectrumClientEventListeners {
 			return false;
 		
 		if (player.getMainHandStack().getItem() instanceof BuildingStaffItem staff && (player.isCreative() || staff.canInteractWith(lookingAtState, world, lookingAtPos, player))) {
-			Block lookingAtBlock = lookingAtState.getBlock();
-			Optional<Block> exchangeBlock = ExchangeStaffItem.getStoredBlock(exchangeStaffItemStack);
-			if (exchangeBlock.isPresent() && exchangeBlock.get() != lookingAtBlock) {
-				Item exchangeBlockItem = exchangeBlock.get().asItem();
-				VoxelShape shape = VoxelShapes.empty();
-				
-				if (exchangeBlockItem != Items.AIR) {
-					int itemCountInInventory = Integer.MAX_VALUE;
-					long inkLimit = Integer.MAX_VALUE;
-					if (!player.isCreative()) {
-						PlayerInventory playerInventory = player.getInventory();
-						itemCountInInventory = playerInventory.count(exchangeBlockItem);
-						for (int i = 0; i < player.getInventory().size(); i++) {
-							var currentStack = playerInventory.getStack(i);
-							ItemProvider itemProvider = ItemProviderRegistry.getProvider(currentStack);
-							if (itemProvider != null) {
-								itemCountInInventory += itemProvider.getItemCount(player, currentStack, exchangeBlockItem);
-							}
-						}
-						inkLimit = InkPowered.getAvailableInk(player, ExchangeStaffItem.USED_COLOR) / ExchangeStaffItem.INK_COST_PER_BLOCK;
-					}
-					
-					if (itemCountInInventory == 0) {
-						HudRenderers.setItemStackToRender(new ItemStack(exchangeBlockItem), 0, false);
-					} else if (inkLimit == 0) {
-						HudRenderers.setItemStackToRender(new ItemStack(exchangeBlockItem), 1, true);
-					} else {
-						long usableCount = Math.min(itemCountInInventory, inkLimit);
-						List<BlockPos> positions = BuildingHelper.getConnectedBlocks(world, lookingAtPos, usableCount, ExchangeStaffItem.getRange(player));
-						for (BlockPos newPosition : positions) {
-							if (world.getWorldBorder().contains(newPosition)) {
-								BlockPos testPos = lookingAtPos.subtract(newPosition);
-								shape = VoxelShapes.union(shape, lookingAtState.getOutlineShape(world, lookingAtPos, ShapeContext.of(camera.getFocusedEntity())).offset(-testPos.getX(), -testPos.getY(), -testPos.getZ()));
-							}
-						}
-						
-						HudRenderers.setItemStackToRender(new ItemStack(exchangeBlockItem), positions.size(), false);
-						VertexConsumer linesBuffer = consumers.getBuffer(RenderLayer.getLines());
-						WorldRendererAccessor.invokeDrawCuboidShapeOutline(matrices, linesBuffer, shape,
-								(double) lookingAtPos.getX() - d, (double) lookingAtPos.getY() - e,
-								(double) lookingAtPos.getZ() - f, 0.0F, 0.0F, 0.0F, 0.4F);
-						return true;
-					}
+			BuildingStaffOutlineCache.Preview preview = BuildingStaffOutlineCache.get(world, player, lookingAtPos, null, lookingAtState, exchangeStaffItemStack,
+					() -> calculateExchangeStaffPreview(world, player, camera, lookingAtPos, lookingAtState, exchangeStaffItemStack));
+			return renderStaffPreview(preview, matrices, consumers, lookingAtPos, d, e, f);
+		}
+		
+		return false;
+	}
+	
+	private static BuildingStaffOutlineCache.Preview calculateExchangeStaffPreview(ClientWorld world, PlayerEntity player, Camera camera, BlockPos lookingAtPos, BlockState lookingAtState, ItemStack exchangeStaffItemStack) {
+		Optional<Block> exchangeBlock = ExchangeStaffItem.getStoredBlock(exchangeStaffItemStack);
+		if (exchangeBlock.isEmpty() || exchangeBlock.get() == lookingAtState.getBlock()) {
+			return BuildingStaffOutlineCache.NONE;
+		}
+		Item exchangeBlockItem = exchangeBlock.get().asItem();
+		if (exchangeBlockItem == Items.AIR) {
+			return BuildingStaffOutlineCache.NONE;
+		}
+		
+		int itemCountInInventory = Integer.MAX_VALUE;
+		long inkLimit = Integer.MAX_VALUE;
+		if (!player.isCreative()) {
+			PlayerInventory playerInventory = player.getInventory();
+			itemCountInInventory = playerInventory.count(exchangeBlockItem);
+			for (int i = 0; i < player.getInventory().size(); i++) {
+				var currentStack = playerInventory.getStack(i);
+				ItemProvider itemProvider = ItemProviderRegistry.getProvider(currentStack);
+				if (itemProvider != null) {
+					itemCountInInventory += itemProvider.getItemCount(player, currentStack, exchangeBlockItem);
 				}
 			}
+			inkLimit = InkPowered.getAvailableInk(player, ExchangeStaffItem.USED_COLOR) / ExchangeStaffItem.INK_COST_PER_BLOCK;
 		}
 		
-		return false;
+		if (itemCountInInventory == 0) {
+			return new BuildingStaffOutlineCache.Preview(new ItemStack(exchangeBlockItem), 0, false, null);
+		} else if (inkLimit == 0) {
+			return new BuildingStaffOutlineCache.Preview(new ItemStack(exchangeBlockItem), 1, true, null);
+		}
+		
+		long usableCount = Math.min(itemCountInInventory, inkLimit);
+		List<BlockPos> positions = BuildingHelper.getConnectedBlocks(world, lookingAtPos, usableCount, ExchangeStaffItem.getRange(player));
+		return new BuildingStaffOutlineCache.Preview(new ItemStack(exchangeBlockItem), positions.size(), false, getSelectionOutline(world, camera, lookingAtPos, lookingAtState, positions));
+	}
+	
+	private static VoxelShape getSelectionOutline(ClientWorld world, Camera camera, BlockPos lookingAtPos, BlockState lookingAtState, List<BlockPos> positions) {
+		VoxelShape outlineShape = lookingAtState.getOutlineShape(world, lookingAtPos, ShapeContext.of(camera.getFocusedEntity()));
+		VoxelShape shape = VoxelShapes.empty();
+		for (BlockPos newPosition : positions) {
+			if (world.getWorldBorder().contains(newPosition)) {
+				BlockPos testPos = lookingAtPos.subtract(newPosition);
+				shape = VoxelShapes.union(shape, outlineShape.offset(-testPos.getX(), -testPos.getY(), -testPos.getZ()));
+			}
+		}
+		return shape;
+	}
+	
+	private static boolean renderStaffPreview(BuildingStaffOutlineCache.Preview preview, MatrixStack matrices, VertexConsumerProvider consumers, BlockPos lookingAtPos, double d, double e, double f) {
+		if (preview.displayStack() != null) {
+			HudRenderers.setItemStackToRender(preview.displayStack(), preview.displayCount(), preview.missingInk());
+		}
+		if (preview.outline() == null) {
+			return false;
+		}
+		
+		VertexConsumer linesBuffer = consumers.getBuffer(RenderLayer.getLines());
+		WorldRendererAccessor.invokeDrawCuboidShapeOutline(matrices, linesBuffer, preview.outline(),
+				(double) lookingAtPos.getX() - d, (double) lookingAtPos.getY() - e,
+				(double) lookingAtPos.getZ() - f, 0.0F, 0.0F, 0.0F, 0.4F);
+		return true;
 	}
 	
 }
@@ -0,0 +1,84 @@
+package de.dafuqs.spectrum.render;
+
+import net.fabricmc.api.*;
+import net.minecraft.block.*;
+import net.minecraft.entity.player.*;
+import net.minecraft.item.*;
+import net.minecraft.util.math.*;
+import net.minecraft.util.shape.*;
+import net.minecraft.world.*;
+import org.jetbrains.annotations.*;
+
+import java.util.function.*;
+
+/**
+ * The selection preview of the building and exchange staffs, remembered between frames.
+ * Calculating a selection means a search through the world and merging an outline for each selected block,
+ * so it only gets calculated again once the player looks at another block, the staff or inventory changed,
+ * or the preview got older than {@link #MAX_AGE_TICKS}.
+ * <p>
+ * Block changes in the world are not tracked. They show up once the preview expired.
+ */
+@Environment(EnvType.CLIENT)
+public class BuildingStaffOutlineCache {
+
+	public static final Preview NONE = new Preview(null, 0, false, null);
+
+	private static final int MAX_AGE_TICKS = 5;
+
+	private static @Nullable World world;
+	private static @Nullable BlockPos pos;
+	private static @Nullable Direction side;
+	private static @Nullable BlockState state;
+	private static ItemStack staffStack = ItemStack.EMPTY;
+	private static int inventoryChangeCount;
+	private static boolean sneaking;
+	private static boolean creative;
+	private static long calculatedTime;
+	private static Preview preview = NONE;
+
+	public static Preview get(World world, PlayerEntity player, BlockPos pos, @Nullable Direction side, BlockState state, ItemStack staffStack, Supplier<Preview> calculator) {
+		int inventoryChangeCount = player.getInventory().getChangeCount();
+		long time = world.getTime();
+		if (world != BuildingStaffOutlineCache.world
+				|| !pos.equals(BuildingStaffOutlineCache.pos)
+				|| side != BuildingStaffOutlineCache.side
+				|| state != BuildingStaffOutlineCache.state
+				|| inventoryChangeCount != BuildingStaffOutlineCache.inventoryChangeCount
+				|| player.isSneaking() != BuildingStaffOutlineCache.sneaking
+				|| player.isCreative() != BuildingStaffOutlineCache.creative
+				|| time < calculatedTime || time - calculatedTime >= MAX_AGE_TICKS
+				|| !ItemStack.areEqual(staffStack, BuildingStaffOutlineCache.staffStack)) {
+
+			BuildingStaffOutlineCache.world = world;
+			BuildingStaffOutlineCache.pos = pos.toImmutable();
+			BuildingStaffOutlineCache.side = side;
+			BuildingStaffOutlineCache.state = state;
+			BuildingStaffOutlineCache.staffStack = staffStack.copy();
+			BuildingStaffOutlineCache.inventoryChangeCount = inventoryChangeCount;
+			BuildingStaffOutlineCache.sneaking = player.isSneaking();
+			BuildingStaffOutlineCache.creative = player.isCreative();
+			BuildingStaffOutlineCache.calculatedTime = time;
+			BuildingStaffOutlineCache.preview = calculator.get();
+		}
+		return preview;
+	}
+
+	public static void clear() {
+		world = null;
+		pos = null;
+		side = null;
+		state = null;
+		staffStack = ItemStack.EMPTY;
+		preview = NONE;
+	}
+
+	/**
+	 * @param displayStack the item to show in the hud, if any
+	 * @param outline      the outline around all selected blocks, relative to the looked at block. Null if nothing can be placed
+	 */
+	public record Preview(@Nullable ItemStack displayStack, int displayCount, boolean missingInk, @Nullable VoxelShape outline) {
+
+	}
+
+}